@@ -0,0 +1,51 @@
+package com.likelion.innerjoin.post.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 면접 시간 자동 배정 solver 벤치마크
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterviewSchedulerBenchmark {
+
+    @Param({"1000", "5000"})
+    private int applicantCount;
+
+    @Param({"100", "300"})
+    private int slotCount;
+
+    // 지원자별 희망 면접 시간 수 (0이면 모든 면접 시간 허용)
+    @Param({"10", "0"})
+    private int preferenceCount;
+
+    private int[][] preferences;
+    private int[] capacities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        capacities = new int[slotCount];
+        for (int slot = 0; slot < slotCount; slot++) {
+            capacities[slot] = 5 + random.nextInt(20);
+        }
+        int limit = preferenceCount == 0 ? slotCount : preferenceCount;
+        preferences = new int[applicantCount][];
+        for (int applicant = 0; applicant < applicantCount; applicant++) {
+            preferences[applicant] = random.ints(0, slotCount).distinct().limit(limit).toArray();
+        }
+    }
+
+    @Benchmark
+    public int[] solve() {
+        return InterviewScheduler.solve(preferences, capacities);
+    }
+}
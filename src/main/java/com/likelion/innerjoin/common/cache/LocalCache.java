@@ -0,0 +1,107 @@
+package com.likelion.innerjoin.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 프로세스 내 캐시
+ * <p>
+ * 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거(LRU)하고, 각 항목은 ttl이 지나면 만료됩니다.
+ * @param <K> key
+ * @param <V> value (캐시된 값은 공유되므로 변경하지 않아야 합니다)
+ */
+public class LocalCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> map;
+    // 무효화할 때마다 증가, loader가 실행되는 동안 무효화되었으면 조회한 (이전) 값을 저장하지 않기 위함
+    private long generation;
+
+    public LocalCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LocalCache.this.maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            map.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * 캐시에 없으면 loader로 값을 만들어 저장합니다.
+     * loader는 lock 밖에서 실행되므로 동시에 여러 번 호출될 수 있습니다.
+     * loader가 실행되는 동안 무효화가 일어나면 값은 반환하지만 저장하지 않습니다. (세대 비교와 저장을 같은 lock에서 함)
+     */
+    public V get(K key, Function<K, V> loader) {
+        long loadedGeneration;
+        synchronized (this) {
+            V value = get(key);
+            if (value != null) {
+                return value;
+            }
+            loadedGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+        if (value != null) {
+            putIfGeneration(key, value, loadedGeneration);
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        map.remove(key);
+    }
+
+    public synchronized void invalidateIf(Predicate<K> predicate) {
+        generation++;
+        map.keySet().removeIf(predicate);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        map.clear();
+    }
+
+    private synchronized void putIfGeneration(K key, V value, long loadedGeneration) {
+        if (generation == loadedGeneration) {
+            put(key, value);
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
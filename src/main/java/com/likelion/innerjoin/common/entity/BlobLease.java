@@ -0,0 +1,35 @@
+package com.likelion.innerjoin.common.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정리 대상 후보 이미지 파일 (원본, 썸네일, 카드 URL 한 묶음)
+ * <p>
+ * 같은 내용의 이미지는 여러 홍보글이 파일을 공유하므로 요청 중에는 파일을 지우지 않습니다.
+ * 업로드하거나 재사용할 때, 홍보글에서 빠질 때 touchedAt을 갱신해 두고,
+ * 유예 시간이 지난 뒤에도 참조하는 홍보글이 없으면 PostImageSweeper가 파일을 삭제합니다.
+ */
+@Entity
+@Table(name = "blob_lease", indexes = @Index(name = "idx_blob_lease_touched_at", columnList = "touched_at"))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BlobLease {
+    @Id
+    @Column(name = "url", length = 512)
+    private String url; // 원본 크기 URL (PostImage.imageUrl)
+
+    @Column(name = "thumbnail_url", length = 512)
+    private String thumbnailUrl;
+
+    @Column(name = "card_url", length = 512)
+    private String cardUrl;
+
+    @Column(name = "touched_at", nullable = false)
+    private LocalDateTime touchedAt;
+}
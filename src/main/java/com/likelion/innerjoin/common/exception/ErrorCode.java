@@ -27,6 +27,9 @@ public enum ErrorCode {
     DUPLICATE_EMAIL(false,HttpStatus.BAD_REQUEST.value(), "이미 존재하는 이메일입니다."),
     //error
     POST_NOT_FOUND(false, HttpStatus.NOT_FOUND.value(), "홍보글을 찾을 수 없습니다."),
+    POST_IMAGE_NOT_FOUND(false, HttpStatus.NOT_FOUND.value(), "홍보글 이미지를 찾을 수 없습니다."),
+    IMAGE_TOO_LARGE(false, HttpStatus.BAD_REQUEST.value(), "이미지 해상도 또는 파일 크기가 너무 큽니다."),
+    UNSUPPORTED_IMAGE(false, HttpStatus.BAD_REQUEST.value(), "지원하지 않는 이미지 형식입니다."),
     UNIV_CERT_API_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR.value(), "학교 인증 API 호출 중 오류가 발생했습니다."),
     INTERNAL_SERVER_ERROR(false,HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부에서 문제가 발생했습니다."),
     RECRUITING_NOT_FOUND(false, HttpStatus.NOT_FOUND.value(), "모집 중 직무가 존재하지 않습니다."),
@@ -39,7 +42,11 @@ public enum ErrorCode {
     FORM_NOT_FOUND(false, 404, "지원폼을 찾을 수 없습니다."),
     ALREADY_APPLIED(false, HttpStatus.BAD_REQUEST.value(), "이미 지원했습니다."),
     MEETING_TIME_NOT_FOUND(false, HttpStatus.NOT_FOUND.value(), "면접 시간을 찾을 수 없습니다."),
-    ALLOWED_NUM_EXCEEDED(false, HttpStatus.BAD_REQUEST.value(), "면접 허용 인원을 초과했습니다.");
+    ALLOWED_NUM_EXCEEDED(false, HttpStatus.BAD_REQUEST.value(), "면접 허용 인원을 초과했습니다."),
+    MAIL_JOB_NOT_FOUND(false, HttpStatus.NOT_FOUND.value(), "메일 발송 내역이 존재하지 않습니다."),
+    INVALID_DECISION(false, HttpStatus.BAD_REQUEST.value(), "결과를 결정할 수 없는 요청입니다."),
+    MEETING_TIME_IN_USE(false, HttpStatus.BAD_REQUEST.value(), "예약한 지원자가 있는 면접 시간입니다."),
+    INVALID_PAGE_REQUEST(false, HttpStatus.BAD_REQUEST.value(), "page 또는 size 값이 잘못되었습니다.");
 
     private final Boolean isSuccess;
     private final int code;
@@ -0,0 +1,90 @@
+package com.likelion.innerjoin.common.image;
+
+import java.awt.geom.AffineTransform;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * JPEG EXIF Orientation 태그 읽기
+ * <p>
+ * 휴대폰 사진은 픽셀을 센서 방향 그대로 저장하고 보여줄 방향을 Orientation 태그(1~8)로만 남깁니다.
+ * 다시 인코딩하면 태그가 사라지므로, 디코딩한 픽셀에 미리 회전/반전을 적용해야 합니다.
+ * APP1(Exif) 세그먼트의 IFD0만 읽고, 형식이 맞지 않으면 1(변환 없음)로 봅니다.
+ */
+public final class ExifOrientation {
+    public static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    public static int read(byte[] data) {
+        try {
+            return find(data);
+        } catch (RuntimeException e) {
+            return NORMAL; // 잘린 EXIF 등은 무시
+        }
+    }
+
+    /**
+     * 디코딩한 이미지(width x height)를 바로 세운 좌표로 옮기는 변환 (1이면 null)
+     */
+    public static AffineTransform transform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);      // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);     // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);           // 좌상-우하 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);     // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 우상-좌하 대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);      // 반시계 방향 90도
+            default -> null;
+        };
+    }
+
+    // 5~8은 가로, 세로가 바뀜
+    public static boolean swapsDimensions(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    private static int find(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xff) != 0xFF || (data[1] & 0xff) != 0xD8) {
+            return NORMAL; // JPEG이 아님
+        }
+        int offset = 2;
+        while (offset + 4 <= data.length && (data[offset] & 0xff) == 0xFF) {
+            int marker = data[offset + 1] & 0xff;
+            if (marker == 0xDA || marker == 0xD9) {
+                break; // 이미지 데이터 시작, 이후에는 메타데이터가 없음
+            }
+            int length = ((data[offset + 2] & 0xff) << 8) | (data[offset + 3] & 0xff);
+            int segment = offset + 4;
+            if (marker == 0xE1 && length >= 8 && isExifHeader(data, segment)) {
+                return readTiff(ByteBuffer.wrap(data, segment + 6, length - 8).slice());
+            }
+            offset += 2 + length;
+        }
+        return NORMAL;
+    }
+
+    private static boolean isExifHeader(byte[] data, int offset) {
+        return offset + 6 <= data.length && data[offset] == 'E' && data[offset + 1] == 'x' && data[offset + 2] == 'i'
+                && data[offset + 3] == 'f' && data[offset + 4] == 0 && data[offset + 5] == 0;
+    }
+
+    // TIFF 헤더: 바이트 순서(II/MM), 42, IFD0 위치 / IFD 항목: 태그(2), 타입(2), 개수(4), 값(4)
+    private static int readTiff(ByteBuffer tiff) {
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiff.getInt(4);
+        int count = tiff.getShort(ifd) & 0xffff;
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if ((tiff.getShort(entry) & 0xffff) == ORIENTATION_TAG) {
+                int orientation = tiff.getShort(entry + 8) & 0xffff;
+                return orientation >= 1 && orientation <= 8 ? orientation : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+}
@@ -0,0 +1,156 @@
+package com.likelion.innerjoin.common.image;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 이미지 디코딩, 크기 조절, JPEG 인코딩
+ * <p>
+ * 픽셀만 다시 인코딩하므로 EXIF 등 원본 메타데이터는 남지 않습니다. 대신 EXIF Orientation은 축소 전에 픽셀에 적용합니다.
+ * 압축률이 높은 이미지(한 가지 색의 큰 PNG 등)는 파일이 작아도 디코딩에 큰 메모리가 필요하므로,
+ * 디코딩 전에 헤더의 가로, 세로만 읽고 maxPixels를 넘으면 거절합니다.
+ */
+@Component
+public class ImageProcessor {
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final long DEFAULT_MAX_PIXELS = 40_000_000L; // 약 8000x5000, RGB로 디코딩하면 160MB
+
+    private final long maxPixels;
+
+    public ImageProcessor() {
+        this(DEFAULT_MAX_PIXELS);
+    }
+
+    public ImageProcessor(long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 크기별 JPEG 파생본 생성
+     * @return 디코딩할 수 없는 형식이면 null
+     * @throws ImageTooLargeException 픽셀 수가 maxPixels를 넘는 경우
+     */
+    public Map<ImageVariant, byte[]> resize(byte[] original) throws IOException {
+        BufferedImage source = decode(original);
+        if (source == null) {
+            return null;
+        }
+        BufferedImage rgb = orient(toRgb(source), ExifOrientation.read(original));
+
+        Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            variants.put(variant, encodeJpeg(scale(rgb, variant.getMaxSize())));
+        }
+        return variants;
+    }
+
+    private BufferedImage decode(byte[] data) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new ImageTooLargeException("이미지 해상도가 너무 큽니다: "
+                            + reader.getWidth(0) + "x" + reader.getHeight(0) + " (최대 " + maxPixels + "픽셀)");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        AffineTransform transform = ExifOrientation.transform(orientation, image.getWidth(), image.getHeight());
+        if (transform == null) {
+            return image;
+        }
+        boolean swap = ExifOrientation.swapsDimensions(orientation);
+        BufferedImage oriented = new BufferedImage(
+                swap ? image.getHeight() : image.getWidth(),
+                swap ? image.getWidth() : image.getHeight(),
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        graphics.drawImage(image, transform, null);
+        graphics.dispose();
+        return oriented;
+    }
+
+    // 투명 배경은 흰색으로 채움 (JPEG은 알파 채널이 없음)
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+        return rgb;
+    }
+
+    // 긴 변이 maxSize 이하가 되도록 축소 (확대는 하지 않음)
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 나눠서 줄임
+    private BufferedImage scale(BufferedImage image, int maxSize) {
+        int longSide = Math.max(image.getWidth(), image.getHeight());
+        if (longSide <= maxSize) {
+            return image;
+        }
+        double ratio = (double) maxSize / longSide;
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,7 @@
+package com.likelion.innerjoin.common.image;
+
+public class ImageTooLargeException extends RuntimeException {
+    public ImageTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.likelion.innerjoin.common.image;
+
+import lombok.Getter;
+
+/**
+ * 업로드 이미지의 크기별 파생본
+ */
+@Getter
+public enum ImageVariant {
+    THUMB("thumb", 320),   // 피드 목록
+    CARD("card", 720),     // 카드, 상세 미리보기
+    FULL("full", 1920);    // 상세 원본 보기
+
+    private final String suffix;
+    private final int maxSize; // 긴 변 기준 최대 픽셀
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+}
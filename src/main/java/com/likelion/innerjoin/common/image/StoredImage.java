@@ -0,0 +1,22 @@
+package com.likelion.innerjoin.common.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장된 이미지의 파생본 URL
+ */
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+    private final String thumbnailUrl;
+    private final String cardUrl;
+    private final String fullUrl;
+
+    // 이번 업로드로 새로 만든 파일인지 (false면 같은 내용의 파일이 이미 있어서 재사용)
+    private final boolean created;
+
+    public String[] urls() {
+        return new String[]{thumbnailUrl, cardUrl, fullUrl};
+    }
+}
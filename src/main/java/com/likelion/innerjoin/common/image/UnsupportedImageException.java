@@ -0,0 +1,7 @@
+package com.likelion.innerjoin.common.image;
+
+public class UnsupportedImageException extends RuntimeException {
+    public UnsupportedImageException(String message) {
+        super(message);
+    }
+}
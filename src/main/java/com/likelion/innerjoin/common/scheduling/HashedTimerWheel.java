@@ -0,0 +1,189 @@
+package com.likelion.innerjoin.common.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 해시 타이머 휠
+ * <p>
+ * 마감 시각을 tick 단위로 잘라 wheelSize개의 칸 중 (tick % wheelSize) 칸에 넣고, 한 바퀴 이상 남은 작업은 남은 바퀴 수만 셉니다.
+ * 등록/취소는 O(1)이고 worker 스레드는 tick마다 칸 하나만 훑으므로, 작업 수가 많아도 DB를 주기적으로 조회하지 않고 마감을 처리할 수 있습니다.
+ * 정밀도는 tick 단위이며, 만료된 작업은 worker 스레드가 아닌 executor에서 실행합니다.
+ * <p>
+ * 칸(bucket)은 worker 스레드만 만지고, 다른 스레드는 등록 큐에만 넣습니다.
+ */
+public final class HashedTimerWheel implements AutoCloseable {
+    private final long tickNanos;
+    private final ArrayDeque<Timeout>[] wheel;
+    private final int mask;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+
+    private final Queue<Timeout> registrations = new ConcurrentLinkedQueue<>();
+    private long tick;
+    private volatile Thread worker;
+    private volatile boolean closed;
+
+    /**
+     * @param tickDuration 한 칸의 시간 (정밀도)
+     * @param wheelSize 칸 수 (2의 거듭제곱으로 올림)
+     * @param executor 만료된 작업을 실행할 executor
+     */
+    public HashedTimerWheel(long tickDuration, TimeUnit unit, int wheelSize, Executor executor) {
+        this(tickDuration, unit, wheelSize, executor, System::nanoTime);
+    }
+
+    // 테스트용: 시계를 직접 넘기고 advance로 시간을 진행
+    @SuppressWarnings("unchecked")
+    HashedTimerWheel(long tickDuration, TimeUnit unit, int wheelSize, Executor executor, LongSupplier nanoClock) {
+        if (tickDuration <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickDuration, wheelSize는 0보다 커야 합니다.");
+        }
+        int size = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.mask = size - 1;
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    public synchronized void start() {
+        if (worker != null || closed) {
+            return;
+        }
+        worker = new Thread(this::run, "timer-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 작업 등록
+     * @param delay 0 이하면 다음 tick에 실행
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (closed) {
+            throw new IllegalStateException("이미 종료된 타이머입니다.");
+        }
+        long deadline = nanoClock.getAsLong() - startNanos + Math.max(unit.toNanos(delay), 0);
+        Timeout timeout = new Timeout(task, deadline);
+        registrations.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            long nextTickNanos = (tick + 1) * tickNanos;
+            long sleepNanos = nextTickNanos - (nanoClock.getAsLong() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            advance();
+        }
+    }
+
+    /**
+     * 현재 시각까지 끝난 tick을 모두 처리 (tick이 끝나야 그 칸의 마감이 모두 지났다고 봄)
+     * worker 스레드에서만 호출합니다. (테스트에서는 worker 없이 직접 호출)
+     */
+    void advance() {
+        long elapsedTicks = (nanoClock.getAsLong() - startNanos) / tickNanos;
+        transferRegistrations();
+        while (tick < elapsedTicks) {
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+            // 처리 도중 등록된 작업도 같은 advance 안에서 놓치지 않게 함
+            transferRegistrations();
+        }
+    }
+
+    private void transferRegistrations() {
+        Timeout timeout;
+        while ((timeout = registrations.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long deadlineTick = timeout.deadline / tickNanos;
+            // 이미 지난 마감은 현재 칸에 넣어서 바로 실행
+            long targetTick = Math.max(deadlineTick, tick);
+            timeout.remainingRounds = (targetTick - tick) / wheel.length;
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                timeout.expire(executor);
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    public static final class Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return 실행 전에 취소했으면 true
+         */
+        public boolean cancel() {
+            return state.compareAndSet(INIT, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire(Executor executor) {
+            if (state.compareAndSet(INIT, EXPIRED)) {
+                executor.execute(task);
+            }
+        }
+    }
+}
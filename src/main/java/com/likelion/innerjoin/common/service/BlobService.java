@@ -1,45 +1,99 @@
 package com.likelion.innerjoin.common.service;
 
-import com.azure.storage.blob.BlobContainerClient;
-import com.azure.storage.blob.BlobServiceClient;
-import com.azure.storage.blob.BlobServiceClientBuilder;
-import org.springframework.beans.factory.annotation.Value;
+import com.likelion.innerjoin.common.image.ImageProcessor;
+import com.likelion.innerjoin.common.image.ImageVariant;
+import com.likelion.innerjoin.common.image.StoredImage;
+import com.likelion.innerjoin.common.image.UnsupportedImageException;
+import com.likelion.innerjoin.common.storage.BlobLeaseRepository;
+import com.likelion.innerjoin.common.storage.BlobStore;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
 import java.util.UUID;
 
-import com.azure.storage.blob.BlobClient;
-
 @Service
+@RequiredArgsConstructor
 public class BlobService {
+    private static final String IMAGE_CONTENT_TYPE = "image/jpeg";
 
-    @Value("${azure.blob.connection-string}")
-    private String connectionString;
-    @Value("${azure.blob.container-name}")
-    private String containerName;
+    private final BlobStore blobStore;
+    private final ImageProcessor imageProcessor;
+    private final BlobLeaseRepository blobLeaseRepository;
 
-    private BlobContainerClient containerClient() {
-        BlobServiceClient serviceClient = new BlobServiceClientBuilder()
-                .connectionString(connectionString).buildClient();
-        return serviceClient.getBlobContainerClient(containerName);
+    public String storeFile(String filename, InputStream content, long length) {
+        return storeFile(filename, content, length, null);
     }
 
-    public String storeFile(String filename, InputStream content, long length) {
+    public String storeFile(String filename, InputStream content, long length, String contentType) {
         // 파일 이름에 UUID 추가하여 고유한 이름 생성
         String uniqueFilename = UUID.randomUUID().toString() + "_" + filename;
+        return blobStore.upload(uniqueFilename, content, length, contentType);  // URL 반환
+    }
+
+    /**
+     * 이미지 저장
+     * 썸네일, 카드, 원본 크기의 JPEG 파생본을 만들어 "{내용 해시}_{크기}.jpg" 이름으로 저장합니다.
+     * 같은 내용의 이미지가 이미 있으면 다시 저장하지 않고 기존 파일을 사용합니다.
+     * 다시 인코딩하므로 원본의 메타데이터(EXIF, GPS 등)는 남지 않습니다.
+     * @throws UnsupportedImageException 디코딩할 수 없는 내용인 경우 (변환 없이 저장하지 않음)
+     * <p>
+     * 존재 여부를 확인하기 전에 lease를 갱신하므로, 확인한 파일은 유예 시간 동안 정리되지 않습니다.
+     * 사용되지 않은 파일(트랜잭션 롤백 등)은 요청 중에 지우지 않고 유예 시간이 지난 뒤 정리합니다.
+     */
+    public StoredImage storeImage(String filename, byte[] data) throws IOException {
+        String hash = sha256(data);
+
+        String fullKey = imageKey(hash, ImageVariant.FULL);
+        StoredImage existing = new StoredImage(
+                blobStore.urlOf(imageKey(hash, ImageVariant.THUMB)),
+                blobStore.urlOf(imageKey(hash, ImageVariant.CARD)),
+                blobStore.urlOf(fullKey),
+                false);
+        blobLeaseRepository.touch(existing);
+        if (blobStore.exists(fullKey)) {
+            return existing;
+        }
+
+        Map<ImageVariant, byte[]> variants = imageProcessor.resize(data);
+        if (variants == null) {
+            throw new UnsupportedImageException("이미지를 읽을 수 없습니다: " + filename);
+        }
 
-        BlobClient client = containerClient().getBlobClient(uniqueFilename);
-        client.upload(content, length);
-        return client.getBlobUrl();  // URL 반환
+        // 원본 크기를 마지막에 올려서, 원본이 있으면 다른 크기도 있다고 볼 수 있게 함
+        String thumbnailUrl = upload(imageKey(hash, ImageVariant.THUMB), variants.get(ImageVariant.THUMB), IMAGE_CONTENT_TYPE);
+        String cardUrl = upload(imageKey(hash, ImageVariant.CARD), variants.get(ImageVariant.CARD), IMAGE_CONTENT_TYPE);
+        String fullUrl = upload(fullKey, variants.get(ImageVariant.FULL), IMAGE_CONTENT_TYPE);
+        return new StoredImage(thumbnailUrl, cardUrl, fullUrl, true);
     }
 
     public boolean deleteFile(String filename) {
-        BlobClient client = containerClient().getBlobClient(filename);
-        if (client.exists()) {
-            client.delete();
-            return true;
+        return blobStore.delete(filename);
+    }
+
+    public boolean deleteUrl(String url) {
+        return blobStore.delete(blobStore.keyOf(url));
+    }
+
+    private String upload(String key, byte[] data, String contentType) {
+        return blobStore.upload(key, new ByteArrayInputStream(data), data.length, contentType);
+    }
+
+    private String imageKey(String hash, ImageVariant variant) {
+        return hash + "_" + variant.getSuffix() + ".jpg";
+    }
+
+    private String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
-        return false;
     }
 }
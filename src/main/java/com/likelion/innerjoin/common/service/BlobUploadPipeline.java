@@ -0,0 +1,108 @@
+package com.likelion.innerjoin.common.service;
+
+import com.likelion.innerjoin.common.image.ImageTooLargeException;
+import com.likelion.innerjoin.common.image.StoredImage;
+import com.likelion.innerjoin.common.image.UnsupportedImageException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 여러 이미지 병렬 업로드
+ * <p>
+ * DB 트랜잭션 밖에서 호출해서 이미지 변환과 네트워크 I/O 동안 커넥션을 잡고 있지 않도록 합니다.
+ * 하나라도 실패하면 예외를 던집니다. 이미 올라간 파일은 같은 내용을 다른 요청이 재사용했을 수 있으므로 지우지 않고,
+ * 참조하는 홍보글이 없으면 유예 시간이 지난 뒤 PostImageSweeper가 정리합니다.
+ * <p>
+ * 모든 이미지는 디코딩 후 다시 인코딩해서 메타데이터(EXIF, GPS 등)를 지우고 내용 해시로 저장합니다.
+ * 해시 계산과 디코딩을 위해 파일 전체를 메모리에 올려야 하므로, 디코딩할 수 없는 형식(HEIC 등)이나
+ * MAX_BUFFERED_BYTES를 넘는 파일은 읽기 전에 거절합니다. (변환 없이 저장하면 메타데이터가 남음)
+ */
+@Slf4j
+@Component
+public class BlobUploadPipeline {
+    private static final long MAX_BUFFERED_BYTES = 10L * 1024 * 1024;
+
+    private final BlobService blobService;
+    private final Executor executor;
+
+    public BlobUploadPipeline(BlobService blobService, @Qualifier("blobUploadExecutor") Executor executor) {
+        this.blobService = blobService;
+        this.executor = executor;
+    }
+
+    /**
+     * @return 저장된 이미지 (files와 같은 순서)
+     */
+    public List<StoredImage> uploadImages(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<CompletableFuture<StoredImage>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> upload(file), executor));
+        }
+
+        List<StoredImage> images = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<StoredImage> future : futures) {
+            try {
+                images.add(future.join());
+            } catch (CompletionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            }
+        }
+
+        if (failure != null) {
+            throw failure instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException(failure);
+        }
+        return images;
+    }
+
+    /**
+     * 파일 삭제 (실패해도 예외를 던지지 않음)
+     */
+    public void deleteAll(Collection<String> urls) {
+        for (String url : urls) {
+            try {
+                blobService.deleteUrl(url);
+            } catch (RuntimeException e) {
+                log.warn("파일 삭제 실패: " + url, e);
+            }
+        }
+    }
+
+    private StoredImage upload(MultipartFile file) {
+        try (InputStream content = file.getInputStream()) {
+            if (!isDecodable(file.getContentType())) {
+                throw new UnsupportedImageException("지원하지 않는 이미지 형식입니다: " + file.getContentType());
+            }
+            if (file.getSize() > MAX_BUFFERED_BYTES) {
+                throw new ImageTooLargeException("이미지 파일이 너무 큽니다: " + file.getSize() + "바이트 (최대 " + MAX_BUFFERED_BYTES + "바이트)");
+            }
+            return blobService.storeImage(file.getOriginalFilename(), content.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 선언된 형식을 읽을 수 있는 ImageIO reader가 있는지 (실제 내용이 다르면 storeImage에서 거절)
+    private boolean isDecodable(String contentType) {
+        return contentType != null && ImageIO.getImageReadersByMIMEType(contentType).hasNext();
+    }
+}
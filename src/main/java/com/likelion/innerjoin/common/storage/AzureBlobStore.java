@@ -0,0 +1,62 @@
+package com.likelion.innerjoin.common.storage;
+
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobParallelUploadOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+@Component
+@ConditionalOnProperty(name = "blob.store", havingValue = "azure", matchIfMissing = true)
+public class AzureBlobStore implements BlobStore {
+    private static final long BLOCK_SIZE = 4L * 1024 * 1024;
+    private static final int BLOCK_CONCURRENCY = 2;
+
+    // 클라이언트는 스레드 안전하고 HTTP 연결 풀을 가지고 있으므로 한 번만 생성
+    private final BlobContainerClient containerClient;
+
+    public AzureBlobStore(@Value("${azure.blob.connection-string}") String connectionString,
+                          @Value("${azure.blob.container-name}") String containerName) {
+        this.containerClient = new BlobServiceClientBuilder()
+                .connectionString(connectionString)
+                .buildClient()
+                .getBlobContainerClient(containerName);
+    }
+
+    @Override
+    public String upload(String key, InputStream content, long length, String contentType) {
+        BlobClient client = containerClient.getBlobClient(key);
+
+        // 4MB 블록 단위로 스트리밍 업로드 (파일 전체를 메모리에 올리지 않음)
+        BlobParallelUploadOptions options = new BlobParallelUploadOptions(content)
+                .setParallelTransferOptions(new ParallelTransferOptions()
+                        .setBlockSizeLong(BLOCK_SIZE)
+                        .setMaxSingleUploadSizeLong(BLOCK_SIZE)
+                        .setMaxConcurrency(BLOCK_CONCURRENCY))
+                .setHeaders(new BlobHttpHeaders().setContentType(contentType));
+        client.uploadWithResponse(options, null, Context.NONE);
+        return client.getBlobUrl();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return containerClient.getBlobClient(key).exists();
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return containerClient.getBlobClient(key).getBlobUrl();
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return containerClient.getBlobClient(key).deleteIfExists();
+    }
+}
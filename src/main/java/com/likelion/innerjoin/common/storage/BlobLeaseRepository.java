@@ -0,0 +1,24 @@
+package com.likelion.innerjoin.common.storage;
+
+import com.likelion.innerjoin.common.entity.BlobLease;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BlobLeaseRepository extends JpaRepository<BlobLease, String>, BlobLeaseRepositoryCustom {
+    // 유예 시간이 지난 후보 (idx_blob_lease_touched_at 범위 조회)
+    @Query("SELECT l.url FROM BlobLease l WHERE l.touchedAt < :cutoff ORDER BY l.touchedAt")
+    List<String> findExpiredUrls(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 정리하는 동안 같은 파일을 재사용하는 touch를 막음 (그 사이 touch됐으면 empty)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM BlobLease l WHERE l.url = :url AND l.touchedAt < :cutoff")
+    Optional<BlobLease> findExpiredForUpdate(@Param("url") String url, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,11 @@
+package com.likelion.innerjoin.common.storage;
+
+import com.likelion.innerjoin.common.image.StoredImage;
+
+public interface BlobLeaseRepositoryCustom {
+    /**
+     * 정리 유예 시간을 지금부터 다시 시작 (행이 없으면 생성)
+     * 정리 중인 행이면 그 트랜잭션이 끝날 때까지 기다리므로, 반환된 뒤에는 파일이 지워지지 않습니다.
+     */
+    void touch(StoredImage image);
+}
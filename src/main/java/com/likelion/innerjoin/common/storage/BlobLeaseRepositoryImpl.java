@@ -0,0 +1,22 @@
+package com.likelion.innerjoin.common.storage;
+
+import com.likelion.innerjoin.common.image.StoredImage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class BlobLeaseRepositoryImpl implements BlobLeaseRepositoryCustom {
+    private static final String UPSERT_SQL = "INSERT INTO blob_lease (url, thumbnail_url, card_url, touched_at) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE touched_at = VALUES(touched_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void touch(StoredImage image) {
+        jdbcTemplate.update(UPSERT_SQL, image.getFullUrl(), image.getThumbnailUrl(), image.getCardUrl(),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
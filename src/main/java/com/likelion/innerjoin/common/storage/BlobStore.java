@@ -0,0 +1,41 @@
+package com.likelion.innerjoin.common.storage;
+
+import java.io.InputStream;
+
+/**
+ * 파일 저장소
+ * <p>
+ * 기본은 Azure Blob Storage이고, blob.store=local 이면 로컬 파일시스템을 사용합니다.
+ */
+public interface BlobStore {
+
+    /**
+     * 파일 업로드
+     * @param key 저장할 파일 이름
+     * @param content 파일 내용 (끝까지 읽고 닫지 않음)
+     * @param length 파일 크기
+     * @param contentType MIME 타입 (null 가능)
+     * @return 업로드된 파일 URL
+     */
+    String upload(String key, InputStream content, long length, String contentType);
+
+    /**
+     * 파일 삭제
+     * @return 파일이 존재해서 삭제했으면 true
+     */
+    boolean delete(String key);
+
+    boolean exists(String key);
+
+    /**
+     * 파일 이름에 해당하는 URL
+     */
+    String urlOf(String key);
+
+    /**
+     * 업로드 URL에서 파일 이름 추출
+     */
+    default String keyOf(String url) {
+        return url.substring(url.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.likelion.innerjoin.common.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 파일시스템 저장소 (개발, 테스트용)
+ */
+@Component
+@ConditionalOnProperty(name = "blob.store", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+    private final Path root;
+
+    public LocalBlobStore(@Value("${blob.local.root:${java.io.tmpdir}/innerjoin-blob}") Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String upload(String key, InputStream content, long length, String contentType) {
+        Path path = resolve(key);
+        try {
+            Files.copy(content, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return path.toUri().toString();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return resolve(key).toUri().toString();
+    }
+
+    @Override
+    public boolean delete(String key) {
+        try {
+            return Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 이름입니다: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,27 @@
+package com.likelion.innerjoin.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 응답 본문으로 ETag 생성
+ * <p>
+ * 실제로 내려갈 JSON과 같은 ObjectMapper로 직렬화한 뒤 해시하므로 본문이 같으면 ETag도 같습니다.
+ * DB 조회는 줄이지 않고, 바뀌지 않은 응답을 304로 내려 전송량만 줄입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ETagGenerator {
+    private final ObjectMapper objectMapper;
+
+    public String generate(Object body) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(body)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("ETag 생성 중 직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.likelion.innerjoin.common.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET 검증자 (ETag, Last-Modified)
+ * <p>
+ * 응답 본문을 만들지 않고 엔티티의 modifiedAt, 개수 같은 메타데이터만으로 만듭니다.
+ * 컨트롤러는 본문을 조회하기 전에 checkNotModified를 호출하고, true면 null을 반환해서 304로 끝냅니다.
+ * (ETagGenerator는 본문을 직렬화해서 해시하므로 본문을 만들어야 하는 경우에만 사용)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResourceVersion {
+    private final String eTag;
+    private final LocalDateTime lastModified; // 없으면 null
+
+    /**
+     * 약한 ETag: 같은 값이면 본문이 의미상 같다고 봄 (modifiedAt, 개수 등으로 만듦)
+     * Last-Modified는 parts 중 가장 늦은 LocalDateTime입니다.
+     * @param parts 응답 내용이 바뀌면 하나라도 달라지는 값들 (null 가능)
+     */
+    public static ResourceVersion weak(Object... parts) {
+        String raw = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("|"));
+        LocalDateTime lastModified = Arrays.stream(parts)
+                .filter(LocalDateTime.class::isInstance)
+                .map(LocalDateTime.class::cast)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        return new ResourceVersion("W/\"" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8)) + "\"", lastModified);
+    }
+
+    /**
+     * 강한 ETag: 내용으로 만든 해시처럼 본문이 같을 때만 같은 값
+     */
+    public static ResourceVersion strong(String version) {
+        return new ResourceVersion("\"" + Objects.requireNonNull(version) + "\"", null);
+    }
+
+    /**
+     * Cache-Control, ETag, Last-Modified를 응답 헤더에 넣고 If-None-Match/If-Modified-Since와 비교
+     * @return 클라이언트 사본이 최신이면 true (응답은 304로 설정됨)
+     */
+    public boolean checkNotModified(ServletWebRequest webRequest, CacheControl cacheControl) {
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if (lastModified == null) {
+            return webRequest.checkNotModified(eTag);
+        }
+        return webRequest.checkNotModified(eTag, lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,61 @@
+package com.likelion.innerjoin.config;
+
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 백그라운드 작업용 스레드 풀 설정
+ */
+@Configuration
+public class ExecutorConfig {
+    public static final int MAIL_WORKERS = 4;
+
+    // MVC 비동기 요청(지원서 CSV 내보내기의 WebAsyncTask) 처리용, spring.task.execution 설정을 따름
+    // Executor 빈을 직접 등록하면 Boot 기본 applicationTaskExecutor가 만들어지지 않아서
+    // 요청마다 새 스레드를 만드는 SimpleAsyncTaskExecutor로 바뀌므로 같은 이름으로 크기가 정해진 풀을 등록
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // 메일 발송 워커: 워커마다 SMTP 연결 하나로 한 묶음씩 발송
+    @Bean
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(MAIL_WORKERS);
+        executor.setMaxPoolSize(MAIL_WORKERS);
+        executor.setQueueCapacity(MAIL_WORKERS);
+        executor.setThreadNamePrefix("mail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 파일 업로드: 큐가 차면 요청 스레드에서 직접 실행해서 업로드 요청이 몰려도 스레드와 메모리가 늘어나지 않게 함
+    @Bean
+    public ThreadPoolTaskExecutor blobUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(64);
+        executor.setThreadNamePrefix("blob-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // 모집 일정 전이: 타이머 휠 스레드가 막히지 않도록 마감된 작업은 여기서 실행
+    @Bean
+    public ThreadPoolTaskExecutor lifecycleExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setThreadNamePrefix("lifecycle-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
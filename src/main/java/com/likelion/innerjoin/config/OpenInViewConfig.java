@@ -0,0 +1,103 @@
+package com.likelion.innerjoin.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.ui.ModelMap;
+import org.springframework.web.context.request.AsyncWebRequestInterceptor;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * Open EntityManager In View 설정 (spring.jpa.open-in-view: false 대신 직접 등록)
+ * <p>
+ * 요청 동안 EntityManager를 열어 두면 지연 로딩은 편하지만, Hibernate는 EntityManager가 닫힐 때까지 JDBC 커넥션을 잡고 있습니다.
+ * 오래 열려 있거나 네트워크 I/O를 하는 요청은 커넥션 풀을 그만큼 차지하므로 EXCLUDED에서는 사용하지 않습니다.
+ * 제외한 요청의 서비스는 필요한 데이터를 트랜잭션 안에서 모두 읽어야 합니다. (트랜잭션이 끝나면 커넥션 반납)
+ * 같은 경로라도 메서드마다 다를 수 있어서 경로만 보는 excludePathPatterns 대신 메서드와 경로를 함께 비교합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OpenInViewConfig implements WebMvcConfigurer {
+    static final List<Excluded> EXCLUDED = List.of(
+            new Excluded(HttpMethod.GET, "/posts/interview-times/{recruitingId}/availability/stream"), // 잔여석 SSE: 구독마다 최대 30분 동안 열려 있음
+            new Excluded(HttpMethod.POST, "/posts"), // 홍보글 작성: 이미지 업로드
+            new Excluded(HttpMethod.PUT, "/posts/{postId}"), // 홍보글 수정: 이미지 업로드
+            new Excluded(HttpMethod.GET, "/posts/{postId}/application/export") // 지원서 CSV 내보내기: 최대 10분 동안 스트리밍
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(new ExcludingInterceptor(interceptor));
+    }
+
+    record Excluded(HttpMethod method, PathPattern pattern) {
+        Excluded(HttpMethod method, String pattern) {
+            this(method, PathPatternParser.defaultInstance.parse(pattern));
+        }
+
+        boolean matches(HttpMethod method, PathContainer path) {
+            return this.method.equals(method) && pattern.matches(path);
+        }
+    }
+
+    // 제외 대상이 아닐 때만 위임 (preHandle에서 열지 않았으면 afterCompletion에서도 닫지 않아야 하므로 모든 단계에서 같은 조건 사용)
+    @RequiredArgsConstructor
+    static class ExcludingInterceptor implements AsyncWebRequestInterceptor {
+        private final OpenEntityManagerInViewInterceptor delegate;
+
+        @Override
+        public void preHandle(WebRequest request) {
+            if (!isExcluded(request)) {
+                delegate.preHandle(request);
+            }
+        }
+
+        @Override
+        public void postHandle(WebRequest request, @Nullable ModelMap model) {
+            if (!isExcluded(request)) {
+                delegate.postHandle(request, model);
+            }
+        }
+
+        @Override
+        public void afterCompletion(WebRequest request, @Nullable Exception ex) {
+            if (!isExcluded(request)) {
+                delegate.afterCompletion(request, ex);
+            }
+        }
+
+        @Override
+        public void afterConcurrentHandlingStarted(WebRequest request) {
+            if (!isExcluded(request)) {
+                delegate.afterConcurrentHandlingStarted(request);
+            }
+        }
+
+        private boolean isExcluded(WebRequest request) {
+            if (!(request instanceof ServletWebRequest servletWebRequest)) {
+                return false;
+            }
+            HttpServletRequest servletRequest = servletWebRequest.getRequest();
+            HttpMethod method = HttpMethod.valueOf(servletRequest.getMethod());
+            PathContainer path = PathContainer.parsePath(
+                    servletRequest.getRequestURI().substring(servletRequest.getContextPath().length()));
+            return EXCLUDED.stream().anyMatch(excluded -> excluded.matches(method, path));
+        }
+    }
+}
@@ -3,9 +3,13 @@ package com.likelion.innerjoin.post.controller;
 
 import com.likelion.innerjoin.common.exception.ErrorCode;
 import com.likelion.innerjoin.common.response.CommonResponse;
+import com.likelion.innerjoin.common.util.ETagGenerator;
 import com.likelion.innerjoin.post.model.dto.request.*;
 import com.likelion.innerjoin.post.model.dto.response.ApplicationDto;
+import com.likelion.innerjoin.post.model.dto.response.BulkDecisionResponseDto;
+import com.likelion.innerjoin.post.model.dto.response.MailJobResponseDto;
 import com.likelion.innerjoin.post.model.dto.response.MeetingTimeResponseDTO;
+import com.likelion.innerjoin.post.model.dto.response.ScoreResultDto;
 import com.likelion.innerjoin.post.model.entity.Application;
 import com.likelion.innerjoin.post.service.ApplicationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,6 +18,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -24,6 +31,7 @@ import java.util.List;
 @RequestMapping("/application")
 public class ApplicationController {
     private final ApplicationService applicationService;
+    private final ETagGenerator eTagGenerator;
 
     @PostMapping
     @Operation(summary = "지원하기 api")
@@ -57,10 +65,19 @@ public class ApplicationController {
     @Operation(summary = "로그인된 지원자의 지원서 목록 조회 (지원자용)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공적인 응답"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
             @ApiResponse(responseCode = "401", description = "권한이 없습니다.")
     })
-    public CommonResponse<List<ApplicationDto>> getApplicationList(HttpSession session) {
-        return new CommonResponse<>(applicationService.getApplicationList(session));
+    public CommonResponse<List<ApplicationDto>> getApplicationList(
+            HttpSession session,
+            ServletWebRequest webRequest) {
+        CommonResponse<List<ApplicationDto>> response = new CommonResponse<>(applicationService.getApplicationList(session));
+        // 지원자별 응답이라 브라우저에만 저장하고 매번 재검증
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (webRequest.checkNotModified(eTagGenerator.generate(response))) {
+            return null;
+        }
+        return response;
     }
 
     @PutMapping("/{application_id}")
@@ -89,12 +106,54 @@ public class ApplicationController {
         return new CommonResponse<>(applicationService.updateMeetingScore(meetingScoreDto, session));
     }
 
+    @PostMapping("/scores")
+    @Operation(summary = "서류/면접 점수 일괄 수정용 api (동아리용)", description = "항목별로 UPDATED, INVALID, NOT_FOUND, FORBIDDEN 중 하나의 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적인 응답"),
+            @ApiResponse(responseCode = "401", description = "권한이 없습니다.")
+    })
+    public CommonResponse<List<ScoreResultDto>> updateScores(
+            @RequestBody ScoreBatchRequestDto scoreBatchRequestDto,
+            HttpSession session) {
+        return new CommonResponse<>(applicationService.updateScores(scoreBatchRequestDto, session));
+    }
+
+    @PostMapping("/decision")
+    @Operation(summary = "점수 기준 결과 일괄 결정 api (동아리용)",
+            description = "passScore 이상은 PASS, 미만은 FAIL로 바꾸고 홍보글 전체를 결정하면 모집 상태를 FORM_REVIEWED(서류) 또는 INTERVIEWED(면접)로 올립니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적인 응답"),
+            @ApiResponse(responseCode = "400", description = "결과를 결정할 수 없는 요청입니다."),
+            @ApiResponse(responseCode = "401", description = "권한이 없습니다."),
+            @ApiResponse(responseCode = "404", description = "모집중 직무가 존재하지 않습니다")
+    })
+    public CommonResponse<BulkDecisionResponseDto> decideResults(
+            @RequestBody BulkDecisionRequestDto bulkDecisionRequestDto,
+            HttpSession session) {
+        return new CommonResponse<>(applicationService.decideResults(bulkDecisionRequestDto, session));
+    }
+
     @PostMapping("/email")
-    @Operation(summary = "이메일 전송 api (동아리용)")
-    public CommonResponse<ApplicationDto> sendEmail(@RequestBody EmailDto emailDto, HttpSession session) {
+    @Operation(summary = "이메일 전송 api (동아리용)", description = "발송을 예약하고 발송 상태 조회용 job id를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "발송 예약 성공"),
+            @ApiResponse(responseCode = "401", description = "권한이 없습니다.")
+    })
+    public CommonResponse<Long> sendEmail(@RequestBody EmailDto emailDto, HttpSession session) {
         return new CommonResponse<>(applicationService.sendEmail(emailDto, session));
     }
 
+    @GetMapping("/email/{job_id}")
+    @Operation(summary = "이메일 발송 상태 조회 api (동아리용)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적인 응답"),
+            @ApiResponse(responseCode = "401", description = "권한이 없습니다."),
+            @ApiResponse(responseCode = "404", description = "메일 발송 내역이 존재하지 않습니다.")
+    })
+    public CommonResponse<MailJobResponseDto> getEmailStatus(@PathVariable("job_id") Long jobId, HttpSession session) {
+        return new CommonResponse<>(applicationService.getEmailStatus(jobId, session));
+    }
+
     @PostMapping("/interview-time")
     @Operation(summary = "면접 시간 선택 api(지원자용)")
     @ApiResponses(value = {
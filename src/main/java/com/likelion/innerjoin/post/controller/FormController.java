@@ -11,7 +11,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -46,10 +48,14 @@ public class FormController {
     @Operation(summary = "지원폼 상세 조회 api")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공적인 응답"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
             @ApiResponse(responseCode = "401", description = "세션값이 잘못되었습니다."),
             @ApiResponse(responseCode = "404", description = "해당 id의 지원폼이 존재하지 않습니다.")
     })
-    public CommonResponse<FormResponseDto> getForm(@PathVariable Long formId, HttpSession session) {
+    public CommonResponse<FormResponseDto> getForm(@PathVariable Long formId, HttpSession session, ServletWebRequest webRequest) {
+        if (formService.getFormVersion(formId).checkNotModified(webRequest, CacheControl.noCache().cachePrivate())) {
+            return null;
+        }
         return new CommonResponse<>(formService.getForm(session, formId));
     }
 
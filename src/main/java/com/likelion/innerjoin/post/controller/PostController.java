@@ -1,24 +1,41 @@
 package com.likelion.innerjoin.post.controller;
 
 import com.likelion.innerjoin.common.response.CommonResponse;
+import com.likelion.innerjoin.post.exception.InvalidPageRequestException;
 import com.likelion.innerjoin.post.exception.PostNotFoundException;
+import com.likelion.innerjoin.post.model.dto.request.ApplicationSearchCondition;
+import com.likelion.innerjoin.post.model.dto.request.InterviewScheduleRequestDto;
 import com.likelion.innerjoin.post.model.dto.request.MeetingTimeRequestDTO;
 import com.likelion.innerjoin.post.model.dto.request.PostModifyRequestDTO;
 import com.likelion.innerjoin.post.model.dto.request.RecruitmentStatusUpdateRequestDTO;
 import com.likelion.innerjoin.post.model.dto.response.*;
 import com.likelion.innerjoin.post.model.dto.request.PostCreateRequestDTO;
 import com.likelion.innerjoin.post.model.entity.RecruitmentStatus;
+import com.likelion.innerjoin.post.model.entity.ResultType;
+import com.likelion.innerjoin.post.service.InterviewScheduleService;
 import com.likelion.innerjoin.post.service.MeetingTimeService;
 import com.likelion.innerjoin.post.service.PostService;
+import com.likelion.innerjoin.post.service.RecruitingStatService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -26,22 +43,32 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final int MAX_APPLICATION_PAGE_SIZE = 500;
+    // 지원서 CSV 내보내기는 지원자가 많으면 오래 걸리므로 이 요청에만 긴 비동기 timeout을 둠
+    private static final long EXPORT_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+
     private final PostService postService;
     private final MeetingTimeService meetingTimeService;
+    private final InterviewScheduleService interviewScheduleService;
+    private final RecruitingStatService recruitingStatService;
 
     @GetMapping
     @Operation(summary = "홍보글 리스트 조회 api")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "홍보글 리스트 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서입니다"),
             @ApiResponse(responseCode = "404", description = "홍보글을 찾을 수 없습니다")
     })
-    public CommonResponse<List<PostListResponseDTO>> getPosts(
+    public CommonResponse<PostPageResponseDTO> getPosts(
+            @RequestParam(value = "q", required = false) String q,
             @RequestParam(value = "clubName", required = false) String clubName,
             @RequestParam(value = "categoryId", required = false) Long categoryId,
             @RequestParam(value = "recruitmentType", required = false) String recruitmentType,
-            @RequestParam(value = "isRecruiting", required = false) Boolean isRecruiting
+            @RequestParam(value = "isRecruiting", required = false) Boolean isRecruiting,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
-        return new CommonResponse<>(postService.getAllPosts(clubName, categoryId, recruitmentType, isRecruiting));
+        return new CommonResponse<>(postService.getAllPosts(q, clubName, categoryId, recruitmentType, isRecruiting, cursor, size));
     }
 
 
@@ -52,19 +79,53 @@ public class PostController {
             @ApiResponse(responseCode = "401", description = "세션값이 잘못되었습니다."),
             @ApiResponse(responseCode = "404", description = "현재 Club에 해당하는 홍보글이 없습니다.")
     })
-    public CommonResponse<List<PostListResponseDTO>> getMyPosts(HttpSession session) {
-        List<PostListResponseDTO> myPosts = postService.getMyPosts(session);
+    public CommonResponse<PostPageResponseDTO> getMyPosts(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            HttpSession session) {
+        PostPageResponseDTO myPosts = postService.getMyPosts(session, cursor, size);
         return new CommonResponse<>(myPosts);
     }
 
 
+    @GetMapping("/closing-soon")
+    @Operation(summary = "마감 임박순 모집중 홍보글 리스트 조회 api")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "홍보글 리스트 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서입니다")
+    })
+    public CommonResponse<PostPageResponseDTO> getClosingSoonPosts(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return new CommonResponse<>(postService.getClosingSoonPosts(cursor, size));
+    }
+
+
+    @GetMapping("/closing-today")
+    @Operation(summary = "오늘 마감되는 홍보글 리스트 조회 api")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "홍보글 리스트 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서입니다")
+    })
+    public CommonResponse<PostPageResponseDTO> getClosingTodayPosts(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return new CommonResponse<>(postService.getClosingTodayPosts(cursor, size));
+    }
+
+
     @GetMapping("/{post_id}")
     @Operation(summary = "특정 홍보글 디테일 조회 api")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "홍보글 디테일 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
             @ApiResponse(responseCode = "404", description = "해당 id의 홍보글을 찾을 수 없습니다")
     })
-    public CommonResponse<PostDetailResponseDTO> getPostById(@PathVariable Long post_id) {
+    public CommonResponse<PostDetailResponseDTO> getPostById(@PathVariable Long post_id, ServletWebRequest webRequest) {
+        // 공개 자원이라 공유 캐시에도 저장하되 매번 재검증
+        if (postService.getPostVersion(post_id).checkNotModified(webRequest, CacheControl.noCache().cachePublic())) {
+            return null;
+        }
         PostDetailResponseDTO postResponseDTO = postService.getPostById(post_id);
         return new CommonResponse<>(postResponseDTO);
     }
@@ -135,15 +196,72 @@ public class PostController {
 
 
     @GetMapping("/{post_id}/application")
-    @Operation(summary = "홍보글별 지원자 리스트 조회")
+    @Operation(summary = "홍보글별 지원자 리스트 조회",
+            description = "recruitingId, formResult, meetingResult로 필터링하고 sort(ID, FORM_SCORE, MEETING_SCORE), direction(ASC, DESC)으로 정렬합니다. size를 주면 page(0부터) 단위로 조회합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "홍보글 삭제 성공"),
+            @ApiResponse(responseCode = "200", description = "지원자 리스트 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "page는 0 이상, size는 1 이상 500 이하여야 합니다"),
             @ApiResponse(responseCode = "401", description = "세션값이 잘못되었습니다"),
             @ApiResponse(responseCode = "403", description = "권한이 없습니다"),
             @ApiResponse(responseCode = "404", description = "해당 post id를 찾을 수 없습니다")
     })
-    public CommonResponse<ApplicationListDto> getApplications(@PathVariable Long post_id, HttpSession session) {
-        return new CommonResponse<>(postService.getApplications(post_id, session));
+    public CommonResponse<ApplicationListDto> getApplications(
+            @PathVariable Long post_id,
+            @RequestParam(value = "recruitingId", required = false) Long recruitingId,
+            @RequestParam(value = "formResult", required = false) ResultType formResult,
+            @RequestParam(value = "meetingResult", required = false) ResultType meetingResult,
+            @RequestParam(value = "sort", defaultValue = "ID") ApplicationSearchCondition.SortType sort,
+            @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            HttpSession session) {
+        if (page < 0 || (size != null && (size < 1 || size > MAX_APPLICATION_PAGE_SIZE))) {
+            throw new InvalidPageRequestException("page는 0 이상, size는 1 이상 " + MAX_APPLICATION_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        ApplicationSearchCondition condition = ApplicationSearchCondition.builder()
+                .recruitingId(recruitingId)
+                .formResult(formResult)
+                .meetingResult(meetingResult)
+                .sort(sort)
+                .direction(direction)
+                .page(page)
+                .size(size)
+                .build();
+        return new CommonResponse<>(postService.getApplications(post_id, condition, session));
+    }
+
+
+    @GetMapping("/{post_id}/statistics")
+    @Operation(summary = "홍보글 직무별 모집 통계 조회", description = "결과별 지원자 수, 점수 분포(10점 단위), 면접 시간 예약률을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "세션값이 잘못되었습니다"),
+            @ApiResponse(responseCode = "404", description = "해당 post id를 찾을 수 없습니다")
+    })
+    public CommonResponse<PostStatResponseDto> getPostStatistics(@PathVariable Long post_id, HttpSession session) {
+        return new CommonResponse<>(recruitingStatService.getPostStatistics(post_id, session));
+    }
+
+    @GetMapping(value = "/{post_id}/application/export", produces = "text/csv")
+    @Operation(summary = "홍보글별 지원서 CSV 내보내기", description = "지원자 정보, 점수, 면접 시간과 질문별 답변을 한 줄씩 내려줍니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "401", description = "세션값이 잘못되었습니다"),
+            @ApiResponse(responseCode = "404", description = "해당 post id를 찾을 수 없습니다")
+    })
+    public WebAsyncTask<Void> exportApplications(@PathVariable Long post_id, HttpSession session, HttpServletResponse response) {
+        StreamingResponseBody body = postService.exportApplications(post_id, session);
+        response.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("applications-" + post_id + ".csv")
+                .build()
+                .toString());
+        // StreamingResponseBody를 그대로 반환하면 spring.mvc.async.request-timeout(전역)을 따르므로 WebAsyncTask로 이 요청의 timeout만 지정
+        return new WebAsyncTask<>(EXPORT_TIMEOUT_MILLIS, () -> {
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
     }
 
 
@@ -151,6 +269,7 @@ public class PostController {
     @Operation(summary = "특정 recruiting의 면접 가능 시간 생성, 예약 가능 시간 설정")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "면접 가능 시간 생성 성공"),
+            @ApiResponse(responseCode = "400", description = "예약한 지원자가 있는 면접 시간은 삭제하거나 예약 인원보다 줄일 수 없습니다"),
             @ApiResponse(responseCode = "401", description = "세션값이 잘못되었습니다"),
             @ApiResponse(responseCode = "404", description = "해당 recruiting id를 찾을 수 없습니다"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
@@ -161,15 +280,63 @@ public class PostController {
     }
 
 
+    @PostMapping("/interview-times/{recruiting_id}/schedule")
+    @Operation(summary = "서류 합격자 면접 시간 자동 배정 (동아리용)",
+            description = "희망 면접 시간과 허용 인원 안에서 최대한 많은 지원자를 고르게 배정합니다. dryRun이면 저장하지 않고 결과만 반환합니다. body를 생략하면 희망 시간 없이 배정하고 저장합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "배정 성공"),
+            @ApiResponse(responseCode = "400", description = "면접이 없는 모집입니다"),
+            @ApiResponse(responseCode = "401", description = "권한이 없습니다"),
+            @ApiResponse(responseCode = "404", description = "해당 recruiting id를 찾을 수 없음")
+    })
+    public CommonResponse<InterviewScheduleResponseDto> scheduleInterviews(
+            @PathVariable Long recruiting_id,
+            @RequestBody(required = false) InterviewScheduleRequestDto request,
+            HttpSession session) {
+        return new CommonResponse<>(interviewScheduleService.schedule(recruiting_id, request, session));
+    }
+
+
     @GetMapping("/interview-times/{recruiting_id}")
-    @Operation(summary = "특정 recruiting의 정보 조회 (직무명, 면접가능시간, 예약시간 등)")
+    @Operation(summary = "특정 recruiting의 정보 조회 (직무명, 면접가능시간, 예약시간, 예약자 명단 등, 동아리용)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "면접 가능 시간 목록 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경 없음"),
+            @ApiResponse(responseCode = "401", description = "권한이 없습니다"),
             @ApiResponse(responseCode = "404", description = "해당 recruiting id를 찾을 수 없음"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public CommonResponse<MeetingTimeListResponseDTO> getMeetingTimes(@PathVariable Long recruiting_id) {
-        return meetingTimeService.getMeetingTimesByRecruitingId(recruiting_id);
+    public CommonResponse<MeetingTimeListResponseDTO> getMeetingTimes(@PathVariable Long recruiting_id, HttpSession session,
+                                                                      ServletWebRequest webRequest) {
+        // 예약자 명단이 있어서 브라우저에만 저장하고 매번 재검증
+        if (meetingTimeService.getMeetingTimesVersion(recruiting_id, session)
+                .checkNotModified(webRequest, CacheControl.noCache().cachePrivate())) {
+            return null;
+        }
+        return meetingTimeService.getMeetingTimesByRecruitingId(recruiting_id, session);
+    }
+
+
+    @GetMapping("/interview-times/{recruiting_id}/availability")
+    @Operation(summary = "특정 recruiting의 면접 시간별 잔여석 조회 (지원자용)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "잔여석 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "해당 recruiting id를 찾을 수 없음")
+    })
+    public CommonResponse<List<MeetingTimeAvailabilityDTO>> getAvailability(@PathVariable Long recruiting_id) {
+        return new CommonResponse<>(meetingTimeService.getAvailability(recruiting_id));
+    }
+
+
+    @GetMapping(value = "/interview-times/{recruiting_id}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "특정 recruiting의 잔여석 실시간 구독 (SSE, 지원자용)",
+            description = "연결 직후 snapshot 이벤트로 전체 잔여석을, 이후 availability 이벤트로 바뀐 면접 시간의 잔여석을 보냅니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "404", description = "해당 recruiting id를 찾을 수 없음")
+    })
+    public SseEmitter streamAvailability(@PathVariable Long recruiting_id) {
+        return meetingTimeService.subscribeAvailability(recruiting_id);
     }
 
 }
@@ -0,0 +1,13 @@
+package com.likelion.innerjoin.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지원폼이 수정/삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class FormChangedEvent {
+    private final Long formId;
+}
@@ -0,0 +1,16 @@
+package com.likelion.innerjoin.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 면접 시간 예약 인원이 바뀌었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingTimeBookingChangedEvent {
+    private final Long recruitingId;
+    private final Set<Long> meetingTimeIds;
+}
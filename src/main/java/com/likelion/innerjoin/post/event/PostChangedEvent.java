@@ -0,0 +1,13 @@
+package com.likelion.innerjoin.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 홍보글이 생성/수정/삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+    private final Long postId;
+}
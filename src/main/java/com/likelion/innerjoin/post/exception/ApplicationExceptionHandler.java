@@ -61,4 +61,25 @@ public class ApplicationExceptionHandler {
         log.warn("APPLICATION-006> 요청 URI: " + request.getRequestURI() + ", 에러 메세지: " + e.getMessage());
         return new CommonResponse<>(ErrorCode.ALLOWED_NUM_EXCEEDED);
     }
+
+    @ExceptionHandler(MailJobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public CommonResponse<?> mailJobNotFound(MailJobNotFoundException e, HttpServletRequest request) {
+        log.warn("APPLICATION-007> 요청 URI: " + request.getRequestURI() + ", 에러 메세지: " + e.getMessage());
+        return new CommonResponse<>(ErrorCode.MAIL_JOB_NOT_FOUND);
+    }
+
+    @ExceptionHandler(InvalidDecisionException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public CommonResponse<?> invalidDecision(InvalidDecisionException e, HttpServletRequest request) {
+        log.warn("APPLICATION-008> 요청 URI: " + request.getRequestURI() + ", 에러 메세지: " + e.getMessage());
+        return new CommonResponse<>(ErrorCode.INVALID_DECISION);
+    }
+
+    @ExceptionHandler(MeetingTimeInUseException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public CommonResponse<?> meetingTimeInUse(MeetingTimeInUseException e, HttpServletRequest request) {
+        log.warn("APPLICATION-009> 요청 URI: " + request.getRequestURI() + ", 에러 메세지: " + e.getMessage());
+        return new CommonResponse<>(ErrorCode.MEETING_TIME_IN_USE, e.getMessage());
+    }
 }
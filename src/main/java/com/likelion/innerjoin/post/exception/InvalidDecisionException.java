@@ -0,0 +1,7 @@
+package com.likelion.innerjoin.post.exception;
+
+public class InvalidDecisionException extends RuntimeException {
+    public InvalidDecisionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.likelion.innerjoin.post.exception;
+
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.likelion.innerjoin.post.exception;
+
+public class MailJobNotFoundException extends RuntimeException {
+    public MailJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.likelion.innerjoin.post.exception;
+
+public class MeetingTimeInUseException extends RuntimeException {
+    public MeetingTimeInUseException(String message) {
+        super(message);
+    }
+}
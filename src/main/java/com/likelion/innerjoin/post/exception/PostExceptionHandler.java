@@ -1,6 +1,8 @@
 package com.likelion.innerjoin.post.exception;
 
 import com.likelion.innerjoin.common.exception.ErrorCode;
+import com.likelion.innerjoin.common.image.ImageTooLargeException;
+import com.likelion.innerjoin.common.image.UnsupportedImageException;
 import com.likelion.innerjoin.common.response.CommonResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +33,13 @@ public class PostExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    // PostImageNotFoundException 처리
+    @ExceptionHandler(PostImageNotFoundException.class)
+    public ResponseEntity<CommonResponse<Object>> handlePostImageNotFoundException(PostImageNotFoundException ex) {
+        CommonResponse<Object> response = new CommonResponse<>(ErrorCode.POST_IMAGE_NOT_FOUND, ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
     // ImageProcessingException 처리
     @ExceptionHandler(ImageProcessingException.class)
     public ResponseEntity<CommonResponse<Object>> handleImageProcessingException(ImageProcessingException ex) {
@@ -38,6 +47,20 @@ public class PostExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    // ImageTooLargeException 처리
+    @ExceptionHandler(ImageTooLargeException.class)
+    public ResponseEntity<CommonResponse<Object>> handleImageTooLargeException(ImageTooLargeException ex) {
+        CommonResponse<Object> response = new CommonResponse<>(ErrorCode.IMAGE_TOO_LARGE, ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    // UnsupportedImageException 처리
+    @ExceptionHandler(UnsupportedImageException.class)
+    public ResponseEntity<CommonResponse<Object>> handleUnsupportedImageException(UnsupportedImageException ex) {
+        CommonResponse<Object> response = new CommonResponse<>(ErrorCode.UNSUPPORTED_IMAGE, ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
     // RecruitingNotFoundException 처리
     @ExceptionHandler(RecruitingNotFoundException.class)
     public ResponseEntity<CommonResponse<Object>> handleRecruitingNotFoundException(RecruitingNotFoundException ex) {
@@ -45,6 +68,20 @@ public class PostExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    // InvalidCursorException 처리
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<CommonResponse<Object>> handleInvalidCursorException(InvalidCursorException ex) {
+        CommonResponse<Object> response = new CommonResponse<>(ErrorCode.VALID_ERROR, ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    // InvalidPageRequestException 처리
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<CommonResponse<Object>> handleInvalidPageRequestException(InvalidPageRequestException ex) {
+        CommonResponse<Object> response = new CommonResponse<>(ErrorCode.INVALID_PAGE_REQUEST, ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
     // 기타 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<CommonResponse<Object>> handleGeneralException(Exception ex) {
@@ -0,0 +1,7 @@
+package com.likelion.innerjoin.post.exception;
+
+public class PostImageNotFoundException extends RuntimeException {
+    public PostImageNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,34 @@
+package com.likelion.innerjoin.post.model.dto.request;
+
+import com.likelion.innerjoin.post.model.entity.ResultType;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 홍보글별 지원자 목록 조회 조건
+ */
+@Getter
+@Builder
+public class ApplicationSearchCondition {
+    private Long recruitingId;      // 모집 직무 필터 (null 가능)
+    private ResultType formResult;  // 서류 결과 필터 (null 가능)
+    private ResultType meetingResult; // 면접 결과 필터 (null 가능)
+
+    @Builder.Default
+    private SortType sort = SortType.ID;
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.ASC;
+
+    // 페이지 번호, 크기 (size가 null이면 전체 조회)
+    private Integer page;
+    private Integer size;
+
+    public enum SortType {
+        ID, FORM_SCORE, MEETING_SCORE
+    }
+
+    public boolean isPaged() {
+        return size != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.likelion.innerjoin.post.model.dto.request;
+
+import com.likelion.innerjoin.post.model.entity.DecisionStage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkDecisionRequestDto {
+    private Long postId;
+    // 없으면 홍보글의 모든 직무
+    private Long recruitingId;
+    private DecisionStage stage;
+    // 이 점수 이상은 합격, 미만은 불합격
+    private Integer passScore;
+}
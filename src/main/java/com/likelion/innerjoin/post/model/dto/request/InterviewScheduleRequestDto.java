@@ -0,0 +1,20 @@
+package com.likelion.innerjoin.post.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class InterviewScheduleRequestDto {
+    // 지원서 id -> 희망 면접 시간 id (희망 순서), 없는 지원서는 현재 예약한 시간을 먼저 두고 모든 시간을 허용
+    private Map<Long, List<Long>> preferences;
+    // true면 배정 결과만 계산하고 저장하지 않음
+    private boolean dryRun;
+}
@@ -22,4 +22,8 @@ public class PostModifyRequestDTO {
 
     private Integer recruitmentCount;  // 수정된 모집 인원 수
 
+    // 유지할 기존 이미지 id (이 순서대로 표시, 새로 올린 이미지는 뒤에 추가)
+    // 목록에 없는 기존 이미지는 삭제, null이면 기존 이미지를 모두 삭제하고 새로 올린 이미지로 교체
+    private List<Long> keepImageIds;
+
 }
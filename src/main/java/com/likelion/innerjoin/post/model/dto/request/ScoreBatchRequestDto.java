@@ -0,0 +1,17 @@
+package com.likelion.innerjoin.post.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScoreBatchRequestDto {
+    private List<FormScoreDto> formScores;
+    private List<MeetingScoreDto> meetingScores;
+}
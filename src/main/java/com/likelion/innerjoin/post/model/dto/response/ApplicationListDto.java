@@ -1,5 +1,6 @@
 package com.likelion.innerjoin.post.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,4 +15,8 @@ import java.util.List;
 public class ApplicationListDto {
     private Long postId;
     private List<ApplicationDto> applicationList;
+
+    // 페이지 조회시에만 채움
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalCount;
 }
@@ -0,0 +1,15 @@
+package com.likelion.innerjoin.post.model.dto.response;
+
+import com.likelion.innerjoin.post.model.entity.RecruitmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkDecisionResponseDto {
+    private Long auditId;
+    private int passCount;
+    private int failCount;
+    private long unscoredCount;
+    private RecruitmentStatus recruitmentStatus;
+}
@@ -0,0 +1,26 @@
+package com.likelion.innerjoin.post.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class InterviewScheduleResponseDto {
+    private Long recruitingId;
+    private boolean applied;
+    private int scheduledCount;
+    private List<AssignmentDto> assignments;
+    // 희망 면접 시간이 모두 차서 배정하지 못한 지원서
+    private List<Long> unscheduledApplicationIds;
+
+    @Getter
+    @AllArgsConstructor
+    public static class AssignmentDto {
+        private Long applicationId;
+        private Long meetingTimeId;
+        // 희망 순서 (0부터)
+        private int preferenceRank;
+    }
+}
@@ -0,0 +1,26 @@
+package com.likelion.innerjoin.post.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.likelion.innerjoin.post.model.entity.MailJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailJobResponseDto {
+    private Long jobId;
+    private MailJobStatus status;
+    private long total;
+    private long pending;
+    private long sent;
+    private long failed;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+}
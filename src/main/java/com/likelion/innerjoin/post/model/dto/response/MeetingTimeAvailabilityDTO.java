@@ -0,0 +1,34 @@
+package com.likelion.innerjoin.post.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지원자용 면접 시간 잔여석 (예약자 정보는 포함하지 않음)
+ */
+@Data
+public class MeetingTimeAvailabilityDTO {
+    private Long meetingTimeId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime meetingStartTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime meetingEndTime;
+
+    private int allowedNum;
+    private int remainingNum;
+
+    // JPQL constructor expression용
+    public MeetingTimeAvailabilityDTO(Long meetingTimeId, LocalDateTime meetingStartTime, LocalDateTime meetingEndTime,
+                                      int allowedNum, int bookedCount) {
+        this.meetingTimeId = meetingTimeId;
+        this.meetingStartTime = meetingStartTime;
+        this.meetingEndTime = meetingEndTime;
+        this.allowedNum = allowedNum;
+        // 허용 인원을 줄인 경우 음수가 되지 않게 함
+        this.remainingNum = Math.max(allowedNum - bookedCount, 0);
+    }
+}
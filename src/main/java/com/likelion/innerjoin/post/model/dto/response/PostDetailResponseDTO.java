@@ -45,6 +45,8 @@ public class PostDetailResponseDTO {
     public static class PostImageDTO {
         private Long imageId;
         private String imageUrl;
+        private String thumbnailUrl;
+        private String cardUrl;
     }
 
     @Data
@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class PostListResponseDTO {
 
@@ -43,6 +43,8 @@ public class PostListResponseDTO {
     public static class PostImageDTO {
         private Long imageId;
         private String imageUrl;
+        private String thumbnailUrl;
+        private String cardUrl;
     }
 
 }
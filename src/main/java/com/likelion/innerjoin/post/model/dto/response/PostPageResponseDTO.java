@@ -0,0 +1,18 @@
+package com.likelion.innerjoin.post.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class PostPageResponseDTO {
+
+    private List<PostListResponseDTO> posts;
+
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+
+}
@@ -0,0 +1,14 @@
+package com.likelion.innerjoin.post.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostStatResponseDto {
+    private Long postId;
+    private long applicantCount;
+    private List<RecruitingStatResponseDto> recruitings;
+}
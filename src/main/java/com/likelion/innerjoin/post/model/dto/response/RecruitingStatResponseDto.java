@@ -0,0 +1,55 @@
+package com.likelion.innerjoin.post.model.dto.response;
+
+import com.likelion.innerjoin.post.model.entity.ResultType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직무별 모집 통계
+ */
+@Getter
+@AllArgsConstructor
+public class RecruitingStatResponseDto {
+    private Long recruitingId;
+    private String positionName;
+    private long applicantCount;
+
+    private Map<ResultType, Long> formResultCounts;
+    private Map<ResultType, Long> meetingResultCounts;
+
+    private ScoreStatDto formScore;
+    private ScoreStatDto meetingScore;
+
+    private SlotStatDto slots;
+
+    @Getter
+    @AllArgsConstructor
+    public static class ScoreStatDto {
+        private long scoredCount;
+        // 점수가 입력된 지원서가 없으면 null
+        private Double average;
+        private List<ScoreBucketDto> histogram;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ScoreBucketDto {
+        // from 이상 to 이하
+        private int from;
+        private int to;
+        private long count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SlotStatDto {
+        private long allowedNum;
+        private long bookedNum;
+        // 면접 시간이 없으면 null
+        private Double fillRate;
+        private List<MeetingTimeAvailabilityDTO> meetingTimes;
+    }
+}
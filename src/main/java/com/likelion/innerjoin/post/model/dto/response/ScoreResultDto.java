@@ -0,0 +1,30 @@
+package com.likelion.innerjoin.post.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 점수 일괄 입력 결과 (요청 항목당 하나)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoreResultDto {
+    private Long applicationId;
+    private Type type;
+    private Status status;
+    // 반영된 점수 (서류는 답변 점수 합계)
+    private Integer score;
+
+    public enum Type {
+        FORM, MEETING
+    }
+
+    public enum Status {
+        UPDATED,    // 반영됨
+        INVALID,    // 점수가 비어있음
+        NOT_FOUND,  // 지원서가 존재하지 않음
+        FORBIDDEN   // 다른 동아리의 지원서
+    }
+}
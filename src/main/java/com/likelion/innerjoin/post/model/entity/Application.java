@@ -11,12 +11,16 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Entity
-@Table(name = "application")
+@Table(name = "application",
+        uniqueConstraints = @UniqueConstraint(name = Application.RECRUITING_APPLICANT_UNIQUE, columnNames = {"recruiting_id", "applicant_id"}))
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Application extends DataEntity {
+    // 기존 중복 행이 있으면 ddl-auto로는 추가되지 않으므로 db/manual/uk_application_recruiting_applicant.sql을 먼저 실행
+    public static final String RECRUITING_APPLICANT_UNIQUE = "uk_application_recruiting_applicant";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "application_id")
@@ -0,0 +1,59 @@
+package com.likelion.innerjoin.post.model.entity;
+
+import com.likelion.innerjoin.common.entity.DataEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결과 일괄 결정 이력
+ * 누가 어떤 기준으로 몇 명을 합격/불합격 처리했는지와 홍보글 상태 변화를 남깁니다.
+ */
+@Entity
+@Table(name = "decision_audit", indexes = @Index(name = "idx_decision_audit_post", columnList = "post_id"))
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DecisionAudit extends DataEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "decision_audit_id")
+    private Long id;
+
+    @Column(name = "club_id")
+    private Long clubId;
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    // null이면 홍보글의 모든 직무
+    @Column(name = "recruiting_id")
+    private Long recruitingId;
+
+    @Enumerated(EnumType.STRING)
+    private DecisionStage stage;
+
+    @Column(name = "pass_score")
+    private Integer passScore;
+
+    @Column(name = "pass_count")
+    private int passCount;
+
+    @Column(name = "fail_count")
+    private int failCount;
+
+    // 점수가 없어서 결과를 바꾸지 않은 지원서 수
+    @Column(name = "unscored_count")
+    private long unscoredCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    private RecruitmentStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "new_status")
+    private RecruitmentStatus newStatus;
+}
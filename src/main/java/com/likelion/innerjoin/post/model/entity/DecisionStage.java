@@ -0,0 +1,16 @@
+package com.likelion.innerjoin.post.model.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결과 일괄 결정 단계와 결정 후 홍보글이 도달하는 모집 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DecisionStage {
+    FORM(RecruitmentStatus.FORM_REVIEWED),
+    MEETING(RecruitmentStatus.INTERVIEWED);
+
+    private final RecruitmentStatus reachedStatus;
+}
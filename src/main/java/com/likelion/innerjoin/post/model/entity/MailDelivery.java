@@ -0,0 +1,47 @@
+package com.likelion.innerjoin.post.model.entity;
+
+import com.likelion.innerjoin.common.entity.DataEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신자 한 명에 대한 메일 발송 내역
+ */
+@Entity
+@Table(name = "mail_delivery", indexes = {
+        @Index(name = "idx_mail_delivery_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_mail_delivery_job_status", columnList = "mail_job_id, status")
+})
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MailDelivery extends DataEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_delivery_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mail_job_id")
+    private MailJob job;
+
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    private MailDeliveryStatus status;
+
+    @Column(name = "attempt_count")
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+}
@@ -0,0 +1,5 @@
+package com.likelion.innerjoin.post.model.entity;
+
+public enum MailDeliveryStatus {
+    PENDING, SENDING, SENT, FAILED
+}
@@ -0,0 +1,36 @@
+package com.likelion.innerjoin.post.model.entity;
+
+import com.likelion.innerjoin.common.entity.DataEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메일 발송 요청 단위
+ * 수신자별 발송 상태는 MailDelivery에 저장합니다.
+ */
+@Entity
+@Table(name = "mail_job")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MailJob extends DataEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_job_id")
+    private Long id;
+
+    @Column(name = "club_id")
+    private Long clubId;
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+}
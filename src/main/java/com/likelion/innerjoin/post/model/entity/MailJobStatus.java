@@ -0,0 +1,5 @@
+package com.likelion.innerjoin.post.model.entity;
+
+public enum MailJobStatus {
+    PENDING, IN_PROGRESS, COMPLETED, PARTIALLY_FAILED, FAILED
+}
@@ -8,12 +8,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "meeting_time")
+@Table(name = "meeting_time",
+        indexes = @Index(name = "idx_meeting_time_recruiting_start", columnList = "recruiting_id, meeting_start_time"))
 @Data
 @Builder
 @AllArgsConstructor
@@ -27,6 +29,11 @@ public class MeetingTime extends DataEntity {
     @Column(name = "allowed_num")
     private int allowedNum;
 
+    // 예약된 인원 수, 예약/취소는 MeetingTimeRepository의 조건부 UPDATE로만 변경
+    @ColumnDefault("0")
+    @Column(name = "booked_count", nullable = false)
+    private int bookedCount;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     @Column(name = "meeting_start_time")
     private LocalDateTime meetingStartTime;
@@ -11,7 +11,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_created_at_id", columnList = "created_at, post_id"),
+        @Index(name = "idx_post_club_created_at_id", columnList = "club_id, created_at, post_id"),
+        @Index(name = "idx_post_end_time", columnList = "end_time")
+})
 @Data
 @Builder
 @Getter
@@ -52,6 +56,8 @@ public class Post extends DataEntity {
     private RecruitmentType recruitmentType; //모집 유형 (예: 서류만, 서류와 면접)
 
     @OneToMany(mappedBy = "post", orphanRemoval = true, cascade = CascadeType.ALL)
+    // MySQL은 NULL을 먼저 정렬하므로 순서가 없는 이전 이미지는 뒤로 보냄 (Hibernate가 CASE 식으로 바꿔서 실행)
+    @OrderBy("displayOrder ASC NULLS LAST, id ASC")
     private List<PostImage> imageList;
 
     @OneToMany(mappedBy = "post", orphanRemoval = true, cascade = CascadeType.ALL)
@@ -21,9 +21,21 @@ public class PostImage extends DataEntity {
     @Column(name = "image_id")
     private Long id;
 
+    // 원본 크기 이미지 URL
     @Column(name = "image_url")
     private String imageUrl;
 
+    // 파생본 URL, 이전에 업로드된 이미지는 null
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "card_url")
+    private String cardUrl;
+
+    // 홍보글 안에서의 표시 순서, 이전에 업로드된 이미지는 null (순서가 있는 이미지 뒤에 id 순서로 표시)
+    @Column(name = "display_order")
+    private Integer displayOrder;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "recruiting")
+@Table(name = "recruiting",
+        indexes = @Index(name = "idx_recruiting_reservation_end_time", columnList = "reservation_end_time"))
 @Data
 @Builder
 @AllArgsConstructor
@@ -42,6 +43,10 @@ public class Recruiting extends DataEntity {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime reservationEndTime;
 
+    // 면접 시간 예약 마감 알림 메일을 큐에 넣은 시각 (재시작 후 중복 발송 방지)
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt;
+
     @OneToMany(mappedBy = "recruiting", orphanRemoval = true, cascade = CascadeType.ALL)
     private List<Application> application;
 
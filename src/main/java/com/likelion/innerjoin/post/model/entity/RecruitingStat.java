@@ -0,0 +1,24 @@
+package com.likelion.innerjoin.post.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직무별 통계 카운터 (recruiting_id, metric) -> 값
+ * 지원서가 바뀌는 트랜잭션에서 증감분만 upsert로 반영하므로 조회 시 지원서를 읽지 않습니다.
+ * metric 이름은 RecruitingStatDelta 참고
+ */
+@Entity
+@Table(name = "recruiting_stat")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecruitingStat {
+    @EmbeddedId
+    private RecruitingStatId id;
+
+    @Column(name = "stat_value", nullable = false)
+    private long value;
+}
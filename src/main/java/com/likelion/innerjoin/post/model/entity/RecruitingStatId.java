@@ -0,0 +1,21 @@
+package com.likelion.innerjoin.post.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecruitingStatId implements Serializable {
+    @Column(name = "recruiting_id")
+    private Long recruitingId;
+
+    @Column(name = "metric", length = 40)
+    private String metric;
+}
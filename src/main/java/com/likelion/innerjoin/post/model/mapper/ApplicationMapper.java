@@ -1,8 +1,12 @@
 package com.likelion.innerjoin.post.model.mapper;
 
+import com.likelion.innerjoin.post.model.dto.response.AnswerResponseDto;
 import com.likelion.innerjoin.post.model.dto.response.ApplicationDto;
 import com.likelion.innerjoin.post.model.entity.Application;
 import com.likelion.innerjoin.post.model.entity.Recruiting;
+import com.likelion.innerjoin.post.model.entity.Response;
+import com.likelion.innerjoin.post.service.CompiledForm;
+import com.likelion.innerjoin.post.service.FormCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +16,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ApplicationMapper {
     private final QuestionMapper questionMapper;
+    private final FormCache formCache;
 
     public ApplicationDto toApplicationDto(Application application, boolean withAnswer) {
         Recruiting recruiting = application.getRecruiting();
@@ -27,10 +32,11 @@ public class ApplicationMapper {
         // applicationId
         applicationDto.setApplicationId(application.getId());
 
-        // form
-        applicationDto.setFormId(recruiting.getForm().getId());
-        applicationDto.setFormTitle(recruiting.getForm().getTitle());
-        applicationDto.setFormDescription(recruiting.getForm().getDescription());
+        // form (캐시된 지원폼 사용)
+        CompiledForm form = formCache.get(recruiting.getForm().getId());
+        applicationDto.setFormId(form.getId());
+        applicationDto.setFormTitle(form.getTitle());
+        applicationDto.setFormDescription(form.getDescription());
 
         // club
         applicationDto.setClubId(recruiting.getPost().getClub().getId());
@@ -69,11 +75,20 @@ public class ApplicationMapper {
         if(withAnswer) {
             applicationDto.setAnswers(
                     application.getResponseList().stream()
-                            .map(questionMapper::toAnswerResponseDto)
+                            .map(response -> toAnswerResponseDto(response, form))
                             .collect(Collectors.toList())
             );
         }
         return applicationDto;
     }
 
+    private AnswerResponseDto toAnswerResponseDto(Response response, CompiledForm form) {
+        // 캐시에 없는 질문(지원 이후 지원폼이 수정된 경우)은 엔티티에서 읽음
+        CompiledForm.CompiledQuestion question = form.getQuestion(response.getQuestion().getId());
+        if (question == null) {
+            return questionMapper.toAnswerResponseDto(response);
+        }
+        return questionMapper.toAnswerResponseDto(response, question);
+    }
+
 }
@@ -6,6 +6,7 @@ import com.likelion.innerjoin.post.model.dto.response.QuestionResponseDto;
 import com.likelion.innerjoin.post.model.entity.Form;
 import com.likelion.innerjoin.post.model.entity.Question;
 import com.likelion.innerjoin.post.model.entity.Response;
+import com.likelion.innerjoin.post.service.CompiledForm;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -41,6 +42,19 @@ public class QuestionMapper {
         return answerResponseDto;
     }
 
+    /**
+     * 캐시된 지원폼의 질문으로 답변 DTO 생성 (질문 엔티티를 지연 로딩하지 않음)
+     */
+    public AnswerResponseDto toAnswerResponseDto(Response response, CompiledForm.CompiledQuestion question) {
+        AnswerResponseDto answerResponseDto = new AnswerResponseDto();
+        answerResponseDto.setQuestion(question.getContent());
+        answerResponseDto.setAnswer(response.getContent());
+        answerResponseDto.setScore(response.getScore());
+        answerResponseDto.setQuestionType(question.getType());
+        answerResponseDto.setQuestionId(question.getId());
+        return answerResponseDto;
+    }
+
     public List<Question> toQuestionList(List<QuestionRequestDto> questionResponseDtoList, Form form) {
         List<Question> questionList = new ArrayList<>();
 
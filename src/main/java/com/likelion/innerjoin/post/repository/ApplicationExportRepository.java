@@ -0,0 +1,73 @@
+package com.likelion.innerjoin.post.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 지원서 내보내기용 JDBC 조회
+ * 지원자가 많아도 메모리에 쌓이지 않도록 결과를 한 행씩 흘려보냅니다.
+ */
+@Repository
+public class ApplicationExportRepository {
+    private static final String QUESTION_SQL = """
+            SELECT DISTINCT q.question_id, f.title, q.number, q.content
+            FROM recruiting r
+                JOIN form f ON f.form_id = r.form_id
+                JOIN question q ON q.form_id = f.form_id
+            WHERE r.post_id = ?
+            ORDER BY f.title, q.number, q.question_id
+            """;
+
+    // 지원서 하나가 답변 수만큼 여러 행으로 나오므로 application_id 순으로 정렬해서 이어진 행을 묶음
+    private static final String APPLICATION_SQL = """
+            SELECT a.application_id, r.job_title,
+                   ap.applicant_name, ap.email, ap.phone_number, ap.school, ap.major, ap.student_number,
+                   a.form_result, a.form_score, a.meeting_result, a.meeting_score,
+                   mt.meeting_start_time, mt.meeting_end_time, a.created_at,
+                   rs.question_id, rs.content AS answer
+            FROM application a
+                JOIN recruiting r ON r.recruiting_id = a.recruiting_id
+                JOIN applicant ap ON ap.applicant_id = a.applicant_id
+                LEFT JOIN meeting_time mt ON mt.meeting_time_id = a.meeting_time_id
+                LEFT JOIN response rs ON rs.application_id = a.application_id
+            WHERE r.post_id = ?
+            ORDER BY a.application_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ApplicationExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL 드라이버는 forward-only, read-only 문장에 fetch size Integer.MIN_VALUE를 주면 결과를 스트리밍함
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    public List<ExportQuestion> findQuestions(Long postId) {
+        return jdbcTemplate.query(QUESTION_SQL,
+                (rs, rowNum) -> new ExportQuestion(
+                        rs.getLong("question_id"),
+                        rs.getString("title"),
+                        rs.getObject("number", Long.class),
+                        rs.getString("content")),
+                postId);
+    }
+
+    public void streamApplications(Long postId, RowCallbackHandler handler) {
+        jdbcTemplate.query(APPLICATION_SQL, handler, postId);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ExportQuestion {
+        private final Long id;
+        private final String formTitle;
+        private final Long number;
+        private final String content;
+    }
+}
@@ -2,11 +2,57 @@ package com.likelion.innerjoin.post.repository;
 
 import com.likelion.innerjoin.post.model.entity.Application;
 import com.likelion.innerjoin.user.model.entity.Applicant;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, ApplicationRepositoryCustom {
     List<Application> findByApplicant(Applicant applicant);
+    List<Application> findByApplicantId(Long applicantId);
+
+    // 중복 지원 확인 (uk_application_recruiting_applicant 인덱스 사용)
+    boolean existsByRecruitingIdAndApplicantId(Long recruitingId, Long applicantId);
+
+    // 같은 지원서에 대한 면접 시간 변경을 직렬화 (다른 지원서, 면접 시간은 막지 않음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Application a WHERE a.id = :id")
+    Optional<Application> findByIdForUpdate(@Param("id") Long id);
+
+    // 면접 시간별 예약자 명단용: 직무의 예약된 지원서와 지원자를 한 번에 조회
+    @Query("SELECT a FROM Application a JOIN FETCH a.applicant JOIN a.meetingTime m " +
+            "WHERE m.recruiting.id = :recruitingId ORDER BY a.id")
+    List<Application> findBookedByRecruitingId(@Param("recruitingId") Long recruitingId);
+
+    // 면접 시간 자동 배정 대상: [지원서 id, 현재 면접 시간 id]
+    @Query("SELECT a.id, m.id FROM Application a LEFT JOIN a.meetingTime m " +
+            "WHERE a.recruiting.id = :recruitingId " +
+            "AND a.formResult = com.likelion.innerjoin.post.model.entity.ResultType.PASS " +
+            "AND a.meetingResult = com.likelion.innerjoin.post.model.entity.ResultType.PENDING " +
+            "ORDER BY a.id")
+    List<Object[]> findMeetingCandidates(@Param("recruitingId") Long recruitingId);
+
+    // 면접 시간 예약 알림 대상: 서류 합격 후 아직 면접 시간을 고르지 않은 지원자
+    @Query("SELECT ap.email FROM Application a JOIN a.applicant ap " +
+            "WHERE a.recruiting.id = :recruitingId AND a.meetingTime IS NULL " +
+            "AND a.formResult = com.likelion.innerjoin.post.model.entity.ResultType.PASS " +
+            "AND a.meetingResult = com.likelion.innerjoin.post.model.entity.ResultType.PENDING")
+    List<String> findUnbookedApplicantEmails(@Param("recruitingId") Long recruitingId);
+
+    // 통계 재계산용: [직무 id, 서류 결과, 서류 점수, 면접 결과, 면접 점수]
+    @Query("SELECT a.recruiting.id, a.formResult, a.formScore, a.meetingResult, a.meetingScore " +
+            "FROM Application a WHERE a.recruiting.id IN :recruitingIds")
+    List<Object[]> findStatSnapshots(@Param("recruitingIds") Collection<Long> recruitingIds);
+
+    // 점수 일괄 입력용: 권한 확인에 필요한 recruiting, post까지 한 번에 조회하고,
+    // 변경 전 스냅샷을 잡는 동안 다른 수정이 끼어들지 않도록 지원서 행을 잠금
+    // (id 순으로 잠가서 겹치는 일괄 요청끼리 교착되지 않게 함)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Application a JOIN FETCH a.recruiting r JOIN FETCH r.post WHERE a.id IN :ids ORDER BY a.id")
+    List<Application> findWithPostByIdInForUpdate(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,46 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.dto.request.ApplicationSearchCondition;
+import com.likelion.innerjoin.post.model.dto.response.ApplicationDto;
+import com.likelion.innerjoin.post.model.entity.DecisionStage;
+import com.likelion.innerjoin.post.model.entity.ResultType;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ApplicationRepositoryCustom {
+    /**
+     * 홍보글의 지원자 목록을 한 번의 쿼리로 조회
+     * 지원서, 직무, 지원폼, 동아리, 지원자, 면접시간을 join해서 필요한 컬럼만 가져옵니다. (답변은 포함하지 않음)
+     * @param postId 홍보글 id
+     * @param condition 필터, 정렬, 페이지 조건
+     */
+    List<ApplicationDto> findApplicationDtos(Long postId, ApplicationSearchCondition condition);
+
+    long countApplications(Long postId, ApplicationSearchCondition condition);
+
+    /**
+     * 지원자의 지원 내역(대시보드)을 한 번의 쿼리로 조회 (최근 지원 순, 답변은 포함하지 않음)
+     * @param applicantId 지원자 id
+     */
+    List<ApplicationDto> findApplicantApplicationDtos(Long applicantId);
+
+    /**
+     * 점수 기준으로 결과를 한 번의 UPDATE로 일괄 변경 (modifiedAt도 같이 갱신)
+     * 면접 단계는 서류 합격자만 대상으로 하고, 점수가 없는 지원서는 바꾸지 않습니다.
+     * @param recruitingId null이면 홍보글의 모든 직무
+     * @param result PASS면 passScore 이상, FAIL이면 passScore 미만인 지원서를 변경
+     * @return 변경된 지원서 수
+     */
+    int updateResultsByScore(Long postId, Long recruitingId, DecisionStage stage, int passScore, ResultType result);
+
+    // 결정 대상 중 점수가 없는 지원서 수
+    long countUnscored(Long postId, Long recruitingId, DecisionStage stage);
+
+    /**
+     * 지원서별 면접 시간을 JDBC batch UPDATE로 한 번에 변경
+     * 면접 시간의 booked_count는 바꾸지 않으므로 호출한 쪽에서 다시 맞춰야 합니다.
+     * @param meetingTimeIds 지원서 id -> 면접 시간 id (null이면 예약 취소)
+     */
+    void updateMeetingTimes(Map<Long, Long> meetingTimeIds);
+}
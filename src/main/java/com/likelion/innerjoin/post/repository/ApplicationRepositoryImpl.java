@@ -0,0 +1,263 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.dto.request.ApplicationSearchCondition;
+import com.likelion.innerjoin.post.model.dto.response.ApplicationDto;
+import com.likelion.innerjoin.post.model.entity.*;
+import com.likelion.innerjoin.user.model.entity.Applicant;
+import com.likelion.innerjoin.user.model.entity.Club;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
+    private static final int BATCH_SIZE = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ApplicationDto> findApplicationDtos(Long postId, ApplicationSearchCondition condition) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Application> root = query.from(Application.class);
+        Join<Recruiting, Post> post = selectApplicationDto(query, root);
+        query.where(toPredicates(criteriaBuilder, root, post, condition, postId));
+        query.orderBy(toOrders(criteriaBuilder, root, condition));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (condition.isPaged()) {
+            typedQuery.setFirstResult(condition.getPage() * condition.getSize());
+            typedQuery.setMaxResults(condition.getSize());
+        }
+
+        return typedQuery.getResultList().stream()
+                .map(this::toApplicationDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ApplicationDto> findApplicantApplicationDtos(Long applicantId) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Application> root = query.from(Application.class);
+        selectApplicationDto(query, root);
+        query.where(criteriaBuilder.equal(root.get("applicant").get("id"), applicantId))
+                .orderBy(criteriaBuilder.desc(root.get("id")));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(this::toApplicationDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countApplications(Long postId, ApplicationSearchCondition condition) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Application> root = query.from(Application.class);
+        Join<Recruiting, Post> post = root.join("recruiting").join("post");
+
+        query.select(criteriaBuilder.count(root))
+                .where(toPredicates(criteriaBuilder, root, post, condition, postId));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public int updateResultsByScore(Long postId, Long recruitingId, DecisionStage stage, int passScore, ResultType result) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Application> update = criteriaBuilder.createCriteriaUpdate(Application.class);
+        Root<Application> root = update.from(Application.class);
+
+        Path<Integer> score = root.get(scoreAttribute(stage));
+        Predicate scoreCondition = result == ResultType.PASS
+                ? criteriaBuilder.ge(score, passScore)
+                : criteriaBuilder.lt(score, passScore);
+
+        List<Predicate> predicates = decisionTargets(criteriaBuilder, update.subquery(Long.class), root, postId, recruitingId, stage);
+        predicates.add(scoreCondition);
+
+        update.set(root.<ResultType>get(resultAttribute(stage)), result)
+                .set(root.<LocalDateTime>get("modifiedAt"), LocalDateTime.now())
+                .where(predicates.toArray(new Predicate[0]));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public long countUnscored(Long postId, Long recruitingId, DecisionStage stage) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Application> root = query.from(Application.class);
+
+        List<Predicate> predicates = decisionTargets(criteriaBuilder, query.subquery(Long.class), root, postId, recruitingId, stage);
+        predicates.add(criteriaBuilder.isNull(root.get(scoreAttribute(stage))));
+
+        query.select(criteriaBuilder.count(root)).where(predicates.toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public void updateMeetingTimes(Map<Long, Long> meetingTimeIds) {
+        if (meetingTimeIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "UPDATE application SET meeting_time_id = ?, modified_at = ? WHERE application_id = ?",
+                new ArrayList<>(meetingTimeIds.entrySet()), BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setObject(1, entry.getValue(), Types.BIGINT);
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, entry.getKey());
+                });
+    }
+
+    // UPDATE 문에서는 join을 쓸 수 없어서 직무 id를 서브쿼리로 거름
+    private List<Predicate> decisionTargets(CriteriaBuilder criteriaBuilder, Subquery<Long> recruitingIds, Root<Application> root,
+                                            Long postId, Long recruitingId, DecisionStage stage) {
+        Root<Recruiting> recruiting = recruitingIds.from(Recruiting.class);
+        List<Predicate> recruitingPredicates = new ArrayList<>();
+        recruitingPredicates.add(criteriaBuilder.equal(recruiting.get("post").get("id"), postId));
+        if (recruitingId != null) {
+            recruitingPredicates.add(criteriaBuilder.equal(recruiting.get("id"), recruitingId));
+        }
+        recruitingIds.select(recruiting.get("id")).where(recruitingPredicates.toArray(new Predicate[0]));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(root.get("recruiting").get("id").in(recruitingIds));
+        if (stage == DecisionStage.MEETING) {
+            predicates.add(criteriaBuilder.equal(root.get("formResult"), ResultType.PASS));
+        }
+        return predicates;
+    }
+
+    private String scoreAttribute(DecisionStage stage) {
+        return stage == DecisionStage.FORM ? "formScore" : "meetingScore";
+    }
+
+    private String resultAttribute(DecisionStage stage) {
+        return stage == DecisionStage.FORM ? "formResult" : "meetingResult";
+    }
+
+    private Predicate[] toPredicates(CriteriaBuilder criteriaBuilder, Root<Application> root, Join<Recruiting, Post> post,
+                                     ApplicationSearchCondition condition, Long postId) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.equal(post.get("id"), postId));
+        if (condition.getRecruitingId() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("recruiting").get("id"), condition.getRecruitingId()));
+        }
+        if (condition.getFormResult() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("formResult"), condition.getFormResult()));
+        }
+        if (condition.getMeetingResult() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("meetingResult"), condition.getMeetingResult()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    // 점수가 같으면 지원서 id 순서로 정렬해서 페이지 사이에 순서가 흔들리지 않게 함
+    private List<Order> toOrders(CriteriaBuilder criteriaBuilder, Root<Application> root, ApplicationSearchCondition condition) {
+        List<Order> orders = new ArrayList<>();
+        boolean ascending = condition.getDirection() == Sort.Direction.ASC;
+        switch (condition.getSort()) {
+            case FORM_SCORE -> orders.add(ascending
+                    ? criteriaBuilder.asc(root.get("formScore"))
+                    : criteriaBuilder.desc(root.get("formScore")));
+            case MEETING_SCORE -> orders.add(ascending
+                    ? criteriaBuilder.asc(root.get("meetingScore"))
+                    : criteriaBuilder.desc(root.get("meetingScore")));
+            default -> {
+                return List.of(ascending ? criteriaBuilder.asc(root.get("id")) : criteriaBuilder.desc(root.get("id")));
+            }
+        }
+        orders.add(criteriaBuilder.asc(root.get("id")));
+        return orders;
+    }
+
+    // ApplicationDto에 필요한 테이블을 join하고 컬럼을 select (필터 조건용으로 post join을 반환)
+    private Join<Recruiting, Post> selectApplicationDto(CriteriaQuery<Tuple> query, Root<Application> root) {
+        Join<Application, Recruiting> recruiting = root.join("recruiting");
+        Join<Recruiting, Post> post = recruiting.join("post");
+        Join<Post, Club> club = post.join("club");
+        Join<Recruiting, Form> form = recruiting.join("form", JoinType.LEFT);
+        Join<Application, Applicant> applicant = root.join("applicant");
+        Join<Application, MeetingTime> meetingTime = root.join("meetingTime", JoinType.LEFT);
+
+        query.multiselect(
+                root.get("id").alias("applicationId"),
+                recruiting.get("id").alias("recruitingId"),
+                recruiting.get("jobTitle").alias("positionName"),
+                post.get("recruitmentType").alias("recruitmentType"),
+                post.get("recruitmentStatus").alias("recruitmentStatus"),
+                form.get("id").alias("formId"),
+                form.get("title").alias("formTitle"),
+                form.get("description").alias("formDescription"),
+                club.get("id").alias("clubId"),
+                club.get("name").alias("clubName"),
+                post.get("id").alias("postId"),
+                post.get("title").alias("postTitle"),
+                post.get("startTime").alias("startTime"),
+                post.get("endTime").alias("endTime"),
+                applicant.get("id").alias("applicantId"),
+                applicant.get("name").alias("name"),
+                applicant.get("email").alias("email"),
+                applicant.get("phoneNum").alias("phoneNum"),
+                applicant.get("school").alias("school"),
+                applicant.get("major").alias("major"),
+                applicant.get("studentNumber").alias("studentNumber"),
+                root.get("formResult").alias("formResult"),
+                root.get("formScore").alias("formScore"),
+                root.get("meetingResult").alias("meetingResult"),
+                root.get("meetingScore").alias("meetingScore"),
+                meetingTime.get("meetingStartTime").alias("meetingStartTime"),
+                meetingTime.get("meetingEndTime").alias("meetingEndTime")
+        );
+        return post;
+    }
+
+    private ApplicationDto toApplicationDto(Tuple tuple) {
+        ApplicationDto applicationDto = new ApplicationDto();
+        applicationDto.setApplicationId(tuple.get("applicationId", Long.class));
+        applicationDto.setRecruitingId(tuple.get("recruitingId", Long.class));
+        applicationDto.setPositionName(tuple.get("positionName", String.class));
+        applicationDto.setRecruitmentType(tuple.get("recruitmentType", RecruitmentType.class));
+        applicationDto.setRecruitmentStatus(tuple.get("recruitmentStatus", RecruitmentStatus.class));
+        applicationDto.setFormId(tuple.get("formId", Long.class));
+        applicationDto.setFormTitle(tuple.get("formTitle", String.class));
+        applicationDto.setFormDescription(tuple.get("formDescription", String.class));
+        applicationDto.setClubId(tuple.get("clubId", Long.class));
+        applicationDto.setClubName(tuple.get("clubName", String.class));
+        applicationDto.setPostId(tuple.get("postId", Long.class));
+        applicationDto.setPostTitle(tuple.get("postTitle", String.class));
+        applicationDto.setStartTime(tuple.get("startTime", LocalDateTime.class));
+        applicationDto.setEndTime(tuple.get("endTime", LocalDateTime.class));
+        applicationDto.setApplicantId(tuple.get("applicantId", Long.class));
+        applicationDto.setName(tuple.get("name", String.class));
+        applicationDto.setEmail(tuple.get("email", String.class));
+        applicationDto.setPhoneNum(tuple.get("phoneNum", String.class));
+        applicationDto.setSchool(tuple.get("school", String.class));
+        applicationDto.setMajor(tuple.get("major", String.class));
+        applicationDto.setStudentNumber(tuple.get("studentNumber", String.class));
+        applicationDto.setFormResult(tuple.get("formResult", ResultType.class));
+        applicationDto.setFormScore(tuple.get("formScore", Integer.class));
+        applicationDto.setMeetingResult(tuple.get("meetingResult", ResultType.class));
+        applicationDto.setMeetingScore(tuple.get("meetingScore", Integer.class));
+        applicationDto.setMeetingStartTime(tuple.get("meetingStartTime", LocalDateTime.class));
+        applicationDto.setMeetingEndTime(tuple.get("meetingEndTime", LocalDateTime.class));
+        return applicationDto;
+    }
+}
@@ -0,0 +1,7 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.entity.DecisionAudit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DecisionAuditRepository extends JpaRepository<DecisionAudit, Long> {
+}
@@ -2,10 +2,16 @@ package com.likelion.innerjoin.post.repository;
 
 import com.likelion.innerjoin.post.model.entity.Form;
 import com.likelion.innerjoin.user.model.entity.Club;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface FormRepository extends JpaRepository<Form, Long> {
     List<Form> findAllByClub(Club club);
+    List<Form> findAllByClubId(Long clubId);
+
+    @EntityGraph(attributePaths = "questionList")
+    Optional<Form> findWithQuestionsById(Long id);
 }
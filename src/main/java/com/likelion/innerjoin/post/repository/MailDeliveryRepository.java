@@ -0,0 +1,30 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.entity.MailDelivery;
+import com.likelion.innerjoin.post.model.entity.MailDeliveryStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailDeliveryRepository extends JpaRepository<MailDelivery, Long> {
+
+    // 발송할 메일 선점: 다른 워커/서버가 잡고 있는 row는 건너뜀 (FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM MailDelivery d WHERE d.status = :status AND d.nextAttemptAt <= :now ORDER BY d.nextAttemptAt")
+    List<MailDelivery> findDue(@Param("status") MailDeliveryStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 발송 중에 서버가 종료되어 SENDING으로 남은 메일을 다시 대기 상태로 되돌림
+    @Modifying
+    @Query("UPDATE MailDelivery d SET d.status = com.likelion.innerjoin.post.model.entity.MailDeliveryStatus.PENDING " +
+            "WHERE d.status = com.likelion.innerjoin.post.model.entity.MailDeliveryStatus.SENDING AND d.modifiedAt < :before")
+    int releaseStuck(@Param("before") LocalDateTime before);
+
+    @Query("SELECT d.status, COUNT(d) FROM MailDelivery d WHERE d.job.id = :jobId GROUP BY d.status")
+    List<Object[]> countByStatus(@Param("jobId") Long jobId);
+}
@@ -1,15 +1,74 @@
 package com.likelion.innerjoin.post.repository;
 
+import com.likelion.innerjoin.post.model.dto.response.MeetingTimeAvailabilityDTO;
 import com.likelion.innerjoin.post.model.entity.MeetingTime;
 import com.likelion.innerjoin.post.model.entity.Recruiting;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface MeetingTimeRepository extends JpaRepository<MeetingTime, Long> {
+public interface MeetingTimeRepository extends JpaRepository<MeetingTime, Long>, MeetingTimeRepositoryCustom {
     List<MeetingTime> findByRecruiting(Recruiting recruiting);
     List<MeetingTime> findByRecruitingId(Long recruitingId);
+
+    // 면접 시간 재설정 중에는 같은 직무의 예약(reserve UPDATE)이 끼어들지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MeetingTime m WHERE m.recruiting.id = :recruitingId")
+    List<MeetingTime> findByRecruitingIdForUpdate(@Param("recruitingId") Long recruitingId);
     MeetingTime findByMeetingStartTimeAndRecruiting(LocalDateTime startTime, Recruiting recruiting);
     MeetingTime findByMeetingStartTimeAndMeetingEndTimeAndRecruiting(LocalDateTime meetingStartTime, LocalDateTime meetingEndTime, Recruiting recruiting);
+
+    /**
+     * 면접 시간 자리 예약
+     * 허용 인원 검사와 증가를 한 문장으로 처리하므로 먼저 조회해서 검사하는 방식과 달리 초과 예약이 생기지 않습니다.
+     * InnoDB는 UPDATE한 row의 잠금을 문장이 끝날 때가 아니라 호출한 트랜잭션(selectMeetingTime, updateApplication)이
+     * 커밋될 때 풀기 때문에, 같은 면접 시간의 다른 예약은 그때까지 기다립니다. (다른 면접 시간은 막지 않음)
+     * 그래서 호출한 쪽은 예약 후 트랜잭션 안에서 오래 걸리는 작업을 하지 않아야 합니다.
+     * @return 1이면 예약 성공, 0이면 허용 인원 초과
+     */
+    @Modifying
+    @Query("UPDATE MeetingTime m SET m.bookedCount = m.bookedCount + 1, m.modifiedAt = CURRENT_TIMESTAMP " +
+            "WHERE m.id = :id AND m.bookedCount < m.allowedNum")
+    int reserve(@Param("id") Long id);
+
+    /**
+     * 면접 시간 자리 반납
+     */
+    @Modifying
+    @Query("UPDATE MeetingTime m SET m.bookedCount = m.bookedCount - 1, m.modifiedAt = CURRENT_TIMESTAMP " +
+            "WHERE m.id = :id AND m.bookedCount > 0")
+    int release(@Param("id") Long id);
+
+    // 잔여석 조회: (recruiting_id, meeting_start_time) 인덱스만 타고 지원서는 읽지 않음
+    @Query("SELECT new com.likelion.innerjoin.post.model.dto.response.MeetingTimeAvailabilityDTO(" +
+            "m.id, m.meetingStartTime, m.meetingEndTime, m.allowedNum, m.bookedCount) " +
+            "FROM MeetingTime m WHERE m.recruiting.id = :recruitingId ORDER BY m.meetingStartTime")
+    List<MeetingTimeAvailabilityDTO> findAvailabilityByRecruitingId(@Param("recruitingId") Long recruitingId);
+
+    @Query("SELECT new com.likelion.innerjoin.post.model.dto.response.MeetingTimeAvailabilityDTO(" +
+            "m.id, m.meetingStartTime, m.meetingEndTime, m.allowedNum, m.bookedCount) " +
+            "FROM MeetingTime m WHERE m.id IN :ids ORDER BY m.meetingStartTime")
+    List<MeetingTimeAvailabilityDTO> findAvailabilityByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT m.bookedCount FROM MeetingTime m WHERE m.id = :id")
+    int findBookedCountById(@Param("id") Long id);
+
+    // 실제 예약 내역 기준으로 예약 인원 수 재계산
+    @Modifying
+    @Query(value = "UPDATE meeting_time m SET m.booked_count = " +
+            "(SELECT COUNT(*) FROM application a WHERE a.meeting_time_id = m.meeting_time_id)", nativeQuery = true)
+    int syncBookedCount();
+
+    @Modifying
+    @Query(value = "UPDATE meeting_time m SET m.booked_count = " +
+            "(SELECT COUNT(*) FROM application a WHERE a.meeting_time_id = m.meeting_time_id) " +
+            "WHERE m.recruiting_id = :recruitingId", nativeQuery = true)
+    int syncBookedCountByRecruitingId(@Param("recruitingId") Long recruitingId);
 }
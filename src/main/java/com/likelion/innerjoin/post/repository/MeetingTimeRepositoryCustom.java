@@ -0,0 +1,13 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.entity.MeetingTime;
+
+import java.util.List;
+
+public interface MeetingTimeRepositoryCustom {
+    /**
+     * 면접 시간 일괄 추가
+     * IDENTITY id라서 JPA saveAll은 한 건씩 INSERT하므로 JDBC batch로 저장합니다. (생성된 id는 채우지 않음)
+     */
+    void insertAll(Long recruitingId, List<MeetingTime> meetingTimes);
+}
@@ -0,0 +1,39 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.entity.MeetingTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MeetingTimeRepositoryImpl implements MeetingTimeRepositoryCustom {
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERT_SQL = "INSERT INTO meeting_time " +
+            "(recruiting_id, allowed_num, booked_count, meeting_start_time, meeting_end_time, created_at, modified_at) " +
+            "VALUES (?, ?, 0, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(Long recruitingId, List<MeetingTime> meetingTimes) {
+        if (meetingTimes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, meetingTimes, BATCH_SIZE, (ps, meetingTime) -> {
+            ps.setLong(1, recruitingId);
+            ps.setInt(2, meetingTime.getAllowedNum());
+            ps.setTimestamp(3, toTimestamp(meetingTime.getMeetingStartTime()));
+            ps.setTimestamp(4, toTimestamp(meetingTime.getMeetingEndTime()));
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
@@ -3,11 +3,23 @@ package com.likelion.innerjoin.post.repository;
 import com.likelion.innerjoin.post.model.entity.Post;
 import com.likelion.innerjoin.post.model.entity.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.awt.*;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     void deleteByPost(Post post);
     List<PostImage> findByPostId(Long postId);
+
+    // 표시 순서가 null인 이전 이미지는 뒤로 (메서드 이름으로 만든 정렬은 MySQL에서 NULL이 먼저 옴)
+    @Query("SELECT i FROM PostImage i WHERE i.post.id = :postId ORDER BY i.displayOrder ASC NULLS LAST, i.id ASC")
+    List<PostImage> findOrderedByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT i FROM PostImage i WHERE i.post.id IN :postIds ORDER BY i.displayOrder ASC NULLS LAST, i.id ASC")
+    List<PostImage> findOrderedByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    boolean existsByImageUrl(String imageUrl);
 }
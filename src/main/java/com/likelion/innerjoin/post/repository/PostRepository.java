@@ -1,13 +1,51 @@
 package com.likelion.innerjoin.post.repository;
 
 import com.likelion.innerjoin.post.model.entity.Post;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post>, PostRepositoryCustom {
+    // 홍보글 리스트용 조회: club, category를 한 번에 fetch join
+    @EntityGraph(attributePaths = {"club", "club.category"})
     List<Post> findByClubId(Long id);
+
+    // 검색 색인용 조회
+    @Query("SELECT p FROM Post p JOIN FETCH p.club c LEFT JOIN FETCH c.category")
+    List<Post> findAllWithClub();
+
+    @EntityGraph(attributePaths = {"club", "club.category"})
+    Optional<Post> findWithClubById(Long id);
+
+    @EntityGraph(attributePaths = {"club", "club.category"})
+    List<Post> findByIdIn(Collection<Long> ids);
+
+    // 결과 일괄 결정처럼 홍보글 상태를 바꾸는 작업을 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Post p WHERE p.id = :id")
+    Optional<Post> findByIdForUpdate(@Param("id") Long id);
+
+    // 모집 마감 예약용: [홍보글 id, 마감 시간] (idx_post_end_time 범위 조회)
+    @Query("SELECT p.id, p.endTime FROM Post p WHERE p.endTime > :from AND p.endTime <= :to")
+    List<Object[]> findEndTimesBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 모집중 홍보글 색인용: [홍보글 id, 마감 시간] (idx_post_end_time 범위 조회)
+    @Query("SELECT p.id, p.endTime FROM Post p WHERE p.endTime >= :now")
+    List<Object[]> findOpenEndTimes(@Param("now") LocalDateTime now);
+
+    // 홍보글 상세 조건부 GET용: [홍보글, 동아리, 카테고리 modifiedAt, 마감 시간, 직무 최종 수정 시각, 직무 수, 이미지 최종 수정 시각, 이미지 수]
+    @Query("SELECT p.modifiedAt, c.modifiedAt, cc.modifiedAt, p.endTime, " +
+            "(SELECT MAX(r.modifiedAt) FROM Recruiting r WHERE r.post = p), (SELECT COUNT(r) FROM Recruiting r WHERE r.post = p), " +
+            "(SELECT MAX(i.modifiedAt) FROM PostImage i WHERE i.post = p), (SELECT COUNT(i) FROM PostImage i WHERE i.post = p) " +
+            "FROM Post p JOIN p.club c LEFT JOIN c.category cc WHERE p.id = :id")
+    List<Object[]> findDetailVersion(@Param("id") Long id);
 }
@@ -0,0 +1,18 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.entity.Post;
+import com.likelion.innerjoin.post.util.PostCursor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface PostRepositoryCustom {
+    /**
+     * (createdAt, postId) 내림차순 keyset 페이지 조회
+     * @param spec 검색 조건 (null 가능)
+     * @param cursor 이전 페이지의 마지막 홍보글 (첫 페이지면 null)
+     * @param limit 조회할 최대 개수
+     * @return club, category가 fetch join 된 홍보글 리스트
+     */
+    List<Post> findFeedPage(Specification<Post> spec, PostCursor cursor, int limit);
+}
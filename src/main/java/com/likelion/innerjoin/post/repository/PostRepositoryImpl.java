@@ -0,0 +1,52 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.entity.Post;
+import com.likelion.innerjoin.post.util.PostCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Post> findFeedPage(Specification<Post> spec, PostCursor cursor, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Post> query = criteriaBuilder.createQuery(Post.class);
+        Root<Post> root = query.from(Post.class);
+        root.fetch("club", JoinType.LEFT).fetch("category", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+
+        // 커서 이후 (createdAt, postId) < (cursor.createdAt, cursor.postId)
+        if (cursor != null) {
+            predicates.add(criteriaBuilder.or(
+                    criteriaBuilder.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                            criteriaBuilder.lessThan(root.get("id"), cursor.getPostId())
+                    )
+            ));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(criteriaBuilder.desc(root.get("createdAt")), criteriaBuilder.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -6,8 +6,10 @@ import com.likelion.innerjoin.post.model.entity.Recruiting;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +17,31 @@ import java.util.Optional;
 public interface RecruitingRepository extends JpaRepository<Recruiting, Long> {
     @Query("SELECT r FROM Recruiting r WHERE r.post.id = :postId")
     List<Recruiting> findByPostId(@Param("postId") Long postId);
+
+    // 예약 일정: [직무 id, 예약 시작, 예약 마감, 알림 발송 시각, 모집 상태, 모집 유형]
+    // 예약 마감이 지나지 않았고 horizon 안에 예약이 시작되는 직무 (idx_recruiting_reservation_end_time 범위 조회)
+    @Query("SELECT r.id, r.reservationStartTime, r.reservationEndTime, r.reminderSentAt, p.recruitmentStatus, p.recruitmentType " +
+            "FROM Recruiting r JOIN r.post p WHERE r.reservationEndTime > :now AND r.reservationStartTime <= :to")
+    List<Object[]> findReservationSchedules(@Param("now") LocalDateTime now, @Param("to") LocalDateTime to);
+
+    @Query("SELECT r.id, r.reservationStartTime, r.reservationEndTime, r.reminderSentAt, p.recruitmentStatus, p.recruitmentType " +
+            "FROM Recruiting r JOIN r.post p WHERE p.id = :postId")
+    List<Object[]> findReservationSchedulesByPostId(@Param("postId") Long postId);
+
+    // 면접 시간 조회(동아리용) 조건부 GET용: [동아리 id, 직무 modifiedAt, 면접 시간 최종 수정 시각, 면접 시간 수, 예약 인원 합계,
+    // 예약한 지원서 최종 수정 시각, 예약한 지원서 수, 예약한 지원자 최종 수정 시각]
+    @Query("SELECT p.club.id, r.modifiedAt, " +
+            "(SELECT MAX(m.modifiedAt) FROM MeetingTime m WHERE m.recruiting = r), " +
+            "(SELECT COUNT(m) FROM MeetingTime m WHERE m.recruiting = r), " +
+            "(SELECT SUM(m.bookedCount) FROM MeetingTime m WHERE m.recruiting = r), " +
+            "(SELECT MAX(a.modifiedAt) FROM Application a WHERE a.recruiting = r AND a.meetingTime IS NOT NULL), " +
+            "(SELECT COUNT(a) FROM Application a WHERE a.recruiting = r AND a.meetingTime IS NOT NULL), " +
+            "(SELECT MAX(ap.modifiedAt) FROM Application a JOIN a.applicant ap WHERE a.recruiting = r AND a.meetingTime IS NOT NULL) " +
+            "FROM Recruiting r JOIN r.post p WHERE r.id = :id")
+    List<Object[]> findMeetingTimesVersion(@Param("id") Long id);
+
+    // 알림 발송 선점: 이미 보낸 직무면 0
+    @Modifying
+    @Query("UPDATE Recruiting r SET r.reminderSentAt = :now WHERE r.id = :id AND r.reminderSentAt IS NULL")
+    int markReminderSent(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
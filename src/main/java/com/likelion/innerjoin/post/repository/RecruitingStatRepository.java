@@ -0,0 +1,21 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.entity.RecruitingStat;
+import com.likelion.innerjoin.post.model.entity.RecruitingStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RecruitingStatRepository extends JpaRepository<RecruitingStat, RecruitingStatId>, RecruitingStatRepositoryCustom {
+    @Query("SELECT s FROM RecruitingStat s WHERE s.id.recruitingId IN :recruitingIds")
+    List<RecruitingStat> findByRecruitingIdIn(@Param("recruitingIds") Collection<Long> recruitingIds);
+
+    // 통계가 한 번도 계산되지 않은 (기능 추가 이전에 지원서가 생긴) 직무
+    @Query("SELECT DISTINCT a.recruiting.id FROM Application a WHERE NOT EXISTS (" +
+            "SELECT 1 FROM RecruitingStat s WHERE s.id.recruitingId = a.recruiting.id " +
+            "AND s.id.metric = 'APPLICANTS')")
+    List<Long> findRecruitingIdsWithoutStat();
+}
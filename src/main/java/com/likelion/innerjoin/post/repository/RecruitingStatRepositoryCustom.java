@@ -0,0 +1,17 @@
+package com.likelion.innerjoin.post.repository;
+
+import java.util.Map;
+
+public interface RecruitingStatRepositoryCustom {
+    /**
+     * 통계 증감분을 JDBC batch upsert로 반영 (행이 없으면 증감분으로 생성)
+     * @param deltas 직무 id -> (metric -> 증감분)
+     */
+    void increment(Map<Long, Map<String, Long>> deltas);
+
+    /**
+     * 직무의 통계를 통째로 교체 (재계산용)
+     * @param values 직무 id -> (metric -> 값), 값이 비어 있으면 해당 직무의 통계만 삭제
+     */
+    void replace(Map<Long, Map<String, Long>> values);
+}
@@ -0,0 +1,48 @@
+package com.likelion.innerjoin.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class RecruitingStatRepositoryImpl implements RecruitingStatRepositoryCustom {
+    private static final int BATCH_SIZE = 100;
+    private static final String UPSERT_SQL = "INSERT INTO recruiting_stat (recruiting_id, metric, stat_value) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE stat_value = stat_value + VALUES(stat_value)";
+    private static final String INSERT_SQL = "INSERT INTO recruiting_stat (recruiting_id, metric, stat_value) VALUES (?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM recruiting_stat WHERE recruiting_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void increment(Map<Long, Map<String, Long>> deltas) {
+        batch(UPSERT_SQL, deltas);
+    }
+
+    @Override
+    public void replace(Map<Long, Map<String, Long>> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, new ArrayList<>(values.keySet()), BATCH_SIZE,
+                (ps, recruitingId) -> ps.setLong(1, recruitingId));
+        batch(INSERT_SQL, values);
+    }
+
+    private void batch(String sql, Map<Long, Map<String, Long>> values) {
+        List<Object[]> rows = new ArrayList<>();
+        values.forEach((recruitingId, metrics) ->
+                metrics.forEach((metric, value) -> rows.add(new Object[]{recruitingId, metric, value})));
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, (Long) row[0]);
+            ps.setString(2, (String) row[1]);
+            ps.setLong(3, (Long) row[2]);
+        });
+    }
+}
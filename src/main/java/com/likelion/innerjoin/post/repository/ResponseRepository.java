@@ -3,5 +3,9 @@ package com.likelion.innerjoin.post.repository;
 import com.likelion.innerjoin.post.model.entity.Response;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ResponseRepository extends JpaRepository<Response, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface ResponseRepository extends JpaRepository<Response, Long>, ResponseRepositoryCustom {
+    List<Response> findByApplicationIdIn(Collection<Long> applicationIds);
 }
@@ -0,0 +1,15 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.entity.Response;
+
+import java.util.List;
+
+public interface ResponseRepositoryCustom {
+    /**
+     * 지원서의 답변 일괄 추가
+     * IDENTITY id라서 cascade로 저장하면 답변마다 INSERT가 나가므로 multi-row INSERT로 저장합니다. (생성된 id는 채우지 않음)
+     * @param applicationId 저장된 지원서 id
+     * @param responses 질문(id만 사용)과 답변 내용
+     */
+    void insertAll(Long applicationId, List<Response> responses);
+}
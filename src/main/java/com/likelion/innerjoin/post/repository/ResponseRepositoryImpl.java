@@ -0,0 +1,41 @@
+package com.likelion.innerjoin.post.repository;
+
+import com.likelion.innerjoin.post.model.entity.Response;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ResponseRepositoryImpl implements ResponseRepositoryCustom {
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERT_SQL = "INSERT INTO response " +
+            "(application_id, question_id, content, score, created_at, modified_at) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(Long applicationId, List<Response> responses) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // 드라이버 설정(rewriteBatchedStatements)과 상관없이 BATCH_SIZE개씩 한 문장으로 INSERT
+        for (int from = 0; from < responses.size(); from += BATCH_SIZE) {
+            List<Response> chunk = responses.subList(from, Math.min(from + BATCH_SIZE, responses.size()));
+            String sql = INSERT_SQL + String.join(", ", Collections.nCopies(chunk.size(), VALUES_ROW));
+
+            List<Object> args = new ArrayList<>(chunk.size() * 5);
+            for (Response response : chunk) {
+                args.add(applicationId);
+                args.add(response.getQuestion().getId());
+                args.add(response.getContent());
+                args.add(now);
+                args.add(now);
+            }
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+}
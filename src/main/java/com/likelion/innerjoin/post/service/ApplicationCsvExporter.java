@@ -0,0 +1,140 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.repository.ApplicationExportRepository;
+import com.likelion.innerjoin.post.repository.ApplicationExportRepository.ExportQuestion;
+import com.likelion.innerjoin.post.util.CsvWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홍보글의 지원서를 답변까지 포함해서 CSV로 내보냅니다.
+ * 지원서 한 건을 다 읽을 때마다 바로 응답 스트림에 쓰기 때문에 지원자 수와 상관없이 메모리 사용량이 일정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationCsvExporter {
+    private static final String[] FIXED_HEADER = {
+            "지원서 ID", "직무", "이름", "이메일", "전화번호", "학교", "전공", "학번",
+            "서류 결과", "서류 점수", "면접 결과", "면접 점수", "면접 시작 시간", "면접 종료 시간", "지원 시간"
+    };
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ApplicationExportRepository applicationExportRepository;
+
+    public StreamingResponseBody export(Long postId) {
+        List<ExportQuestion> questions = applicationExportRepository.findQuestions(postId);
+
+        return outputStream -> {
+            CsvWriter csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+            csv.writeBom();
+            csv.writeRow(header(questions));
+
+            RowAssembler assembler = new RowAssembler(csv, questions);
+            try {
+                applicationExportRepository.streamApplications(postId, assembler);
+                assembler.writeCurrent();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            csv.flush();
+        };
+    }
+
+    private String[] header(List<ExportQuestion> questions) {
+        boolean multipleForms = questions.stream().map(ExportQuestion::getFormTitle).distinct().count() > 1;
+
+        String[] header = new String[FIXED_HEADER.length + questions.size()];
+        System.arraycopy(FIXED_HEADER, 0, header, 0, FIXED_HEADER.length);
+        for (int i = 0; i < questions.size(); i++) {
+            ExportQuestion question = questions.get(i);
+            String label = question.getNumber() == null
+                    ? question.getContent()
+                    : question.getNumber() + ". " + question.getContent();
+            header[FIXED_HEADER.length + i] = multipleForms ? "[" + question.getFormTitle() + "] " + label : label;
+        }
+        return header;
+    }
+
+    /**
+     * application_id 순으로 정렬된 (지원서 x 답변) 행을 지원서 한 줄로 묶어서 씁니다.
+     */
+    private static class RowAssembler implements RowCallbackHandler {
+        private final CsvWriter csv;
+        private final Map<Long, Integer> columnByQuestionId = new HashMap<>();
+        private final int width;
+
+        private Long currentId;
+        private String[] current;
+
+        RowAssembler(CsvWriter csv, List<ExportQuestion> questions) {
+            this.csv = csv;
+            this.width = FIXED_HEADER.length + questions.size();
+            for (int i = 0; i < questions.size(); i++) {
+                columnByQuestionId.put(questions.get(i).getId(), FIXED_HEADER.length + i);
+            }
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long applicationId = rs.getLong("application_id");
+            if (currentId == null || currentId != applicationId) {
+                writeCurrent();
+                currentId = applicationId;
+                current = new String[width];
+                current[0] = String.valueOf(applicationId);
+                current[1] = rs.getString("job_title");
+                current[2] = rs.getString("applicant_name");
+                current[3] = rs.getString("email");
+                current[4] = rs.getString("phone_number");
+                current[5] = rs.getString("school");
+                current[6] = rs.getString("major");
+                current[7] = rs.getString("student_number");
+                current[8] = rs.getString("form_result");
+                current[9] = rs.getString("form_score");
+                current[10] = rs.getString("meeting_result");
+                current[11] = rs.getString("meeting_score");
+                current[12] = format(rs.getObject("meeting_start_time", LocalDateTime.class));
+                current[13] = format(rs.getObject("meeting_end_time", LocalDateTime.class));
+                current[14] = format(rs.getObject("created_at", LocalDateTime.class));
+            }
+
+            Long questionId = rs.getObject("question_id", Long.class);
+            Integer column = questionId == null ? null : columnByQuestionId.get(questionId);
+            if (column != null) {
+                current[column] = rs.getString("answer");
+            }
+        }
+
+        void writeCurrent() {
+            if (current == null) {
+                return;
+            }
+            try {
+                csv.writeRow(current);
+            } catch (IOException e) {
+                // 클라이언트가 다운로드를 끊으면 여기서 조회도 같이 중단됨
+                throw new UncheckedIOException(e);
+            }
+            current = null;
+        }
+
+        private static String format(LocalDateTime dateTime) {
+            return dateTime == null ? null : dateTime.format(DATE_TIME_FORMAT);
+        }
+    }
+}
@@ -1,30 +1,39 @@
 package com.likelion.innerjoin.post.service;
 
 
-import com.likelion.innerjoin.common.exception.ErrorCode;
+import com.likelion.innerjoin.post.event.MeetingTimeBookingChangedEvent;
+import com.likelion.innerjoin.post.event.PostChangedEvent;
 import com.likelion.innerjoin.post.exception.*;
 import com.likelion.innerjoin.post.model.dto.request.*;
 import com.likelion.innerjoin.post.model.dto.response.ApplicationDto;
+import com.likelion.innerjoin.post.model.dto.response.BulkDecisionResponseDto;
+import com.likelion.innerjoin.post.model.dto.response.MailJobResponseDto;
 import com.likelion.innerjoin.post.model.dto.response.MeetingTimeResponseDTO;
+import com.likelion.innerjoin.post.model.dto.response.ScoreResultDto;
 import com.likelion.innerjoin.post.model.entity.*;
 import com.likelion.innerjoin.post.model.mapper.ApplicationMapper;
 import com.likelion.innerjoin.post.repository.*;
-import com.likelion.innerjoin.user.model.entity.Applicant;
-import com.likelion.innerjoin.user.model.entity.Club;
-import com.likelion.innerjoin.user.model.entity.User;
+import com.likelion.innerjoin.user.repository.ApplicantRepository;
+import com.likelion.innerjoin.user.util.SessionUser;
 import com.likelion.innerjoin.user.util.SessionVerifier;
 import jakarta.servlet.http.HttpSession;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -38,23 +47,26 @@ public class ApplicationService {
 
     private final ApplicationMapper applicationMapper;
 
-    private final JavaMailSender mailSender;
+    private final MailQueueService mailQueueService;
     private final PostRepository postRepository;
+    private final ApplicantRepository applicantRepository;
+    private final DecisionAuditRepository decisionAuditRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FormCache formCache;
+    private final RecruitingStatService recruitingStatService;
 
     @Transactional
     public Application postApplication (ApplicationRequestDto applicationRequestDto, HttpSession session) {
-        Applicant applicant = checkApplicant(session);
+        SessionUser applicant = checkApplicant(session);
         Recruiting recruiting = recruitingRepository.findById(applicationRequestDto.getRecruitingId())
                 .orElseThrow(() ->new RecruitingNotFoundException("모집중 직무가 존재하지 않습니다."));
 
-        for(Application application : recruiting.getApplication()){
-            if(application.getApplicant().equals(applicant)){
-                throw new AlreadyAppliedException("이미 지원한 지원자입니다.");
-            }
+        if(applicationRepository.existsByRecruitingIdAndApplicantId(recruiting.getId(), applicant.getId())){
+            throw new AlreadyAppliedException("이미 지원한 지원자입니다.");
         }
 
         Application application = new Application();
-        application.setApplicant(applicant);
+        application.setApplicant(applicantRepository.getReferenceById(applicant.getId()));
         application.setRecruiting(recruiting);
 
         Post post = recruiting.getPost();
@@ -69,26 +81,50 @@ public class ApplicationService {
             application.setMeetingResult(ResultType.PENDING);
         }
 
-        application.setResponseList(new ArrayList<>());
-        for(AnswerRequestDto answer : applicationRequestDto.getAnswers()) {
+        // 질문 id는 캐시된 지원폼으로 검증하고, 엔티티는 프록시 참조만 연결
+        CompiledForm form = recruiting.getForm() == null ? null : formCache.get(recruiting.getForm().getId());
+        List<Response> responses = new ArrayList<>();
+        List<AnswerRequestDto> answers = applicationRequestDto.getAnswers() == null ? List.of() : applicationRequestDto.getAnswers();
+        for(AnswerRequestDto answer : answers) {
+            if(form == null || !form.hasQuestion(answer.getQuestionId())) {
+                throw new QuestionNotFoundException("질문이 존재하지 않습니다.");
+            }
             Response response = new Response();
             response.setApplication(application);
-            response.setQuestion(
-                    questionRepository.findById(answer.getQuestionId())
-                    .orElseThrow(() -> new QuestionNotFoundException("질문이 존재하지 않습니다."))
-            );
+            response.setQuestion(questionRepository.getReferenceById(answer.getQuestionId()));
             response.setContent(answer.getAnswer());
-            application.getResponseList().add(response);
+            responses.add(response);
         }
 
-
-        return applicationRepository.save(application);
+        // 답변은 cascade 대신 multi-row INSERT로 저장 (질문 수와 상관없이 INSERT 문 수가 일정)
+        application.setResponseList(new ArrayList<>());
+        Application savedApplication;
+        try {
+            savedApplication = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 중복 지원은 unique 제약으로 막힘 (다른 제약 위반은 그대로 던짐)
+            if (!isDuplicateApplication(e)) {
+                throw e;
+            }
+            throw new AlreadyAppliedException("이미 지원한 지원자입니다.");
+        }
+        responseRepository.insertAll(savedApplication.getId(), responses);
+        recruitingStatService.record(recruiting.getId(), null, RecruitingStatDelta.Snapshot.of(savedApplication));
+        return savedApplication;
     }
 
 
+    // 위반한 제약이 uk_application_recruiting_applicant인지 (MySQL은 "테이블명.제약명"으로 알려줄 수 있음)
+    private boolean isDuplicateApplication(DataIntegrityViolationException e) {
+        String violated = e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : e.getMostSpecificCause().getMessage();
+        return violated != null && violated.toLowerCase().contains(Application.RECRUITING_APPLICANT_UNIQUE);
+    }
+
     public ApplicationDto getApplicationDetail(Long applicationId, HttpSession session) {
-        User user = sessionVerifier.verifySession(session);
-        if(!(user instanceof Applicant) & !(user instanceof Club)) {
+        SessionUser user = sessionVerifier.verifySession(session);
+        if(!user.isApplicant() && !user.isClub()) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
 
@@ -96,13 +132,12 @@ public class ApplicationService {
                 .orElseThrow(() -> new ApplicationNotFoundException("지원 내역이 존재하지 않습니다."));
 
 
-        if(user instanceof Applicant applicant) {
-            if(!applicant.equals(application.getApplicant())) {
+        if(user.isApplicant()) {
+            if(!user.getId().equals(application.getApplicant().getId())) {
                 throw new UnauthorizedException("권한이 없습니다.");
             }
         }else {
-            Club club = (Club) user;
-            if (!club.equals(application.getRecruiting().getPost().getClub())) {
+            if (!user.getId().equals(application.getRecruiting().getPost().getClub().getId())) {
                 throw new UnauthorizedException("권한이 없습니다.");
             }
         }
@@ -111,13 +146,10 @@ public class ApplicationService {
     }
 
     public List<ApplicationDto> getApplicationList(HttpSession session) {
-        Applicant applicant = checkApplicant(session);
+        SessionUser applicant = checkApplicant(session);
 
-        List<Application> applicationList = applicationRepository.findByApplicant(applicant);
-
-        return applicationList.stream()
-                .map(application -> applicationMapper.toApplicationDto(application, false))
-                .collect(Collectors.toList());
+        // 직무, 홍보글, 동아리, 지원폼, 면접 시간을 join한 한 번의 쿼리로 조회 (지원서마다 지연 로딩하지 않음)
+        return applicationRepository.findApplicantApplicationDtos(applicant.getId());
     }
 
     @Transactional
@@ -125,16 +157,21 @@ public class ApplicationService {
             ApplicationPutRequestDto applicationPutRequestDto,
             Long applicationId,
             HttpSession session){
-        Club club = checkClub(session);
+        SessionUser club = checkClub(session);
 
-        Application application = applicationRepository.findById(applicationId)
+        Application application = applicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ApplicationNotFoundException("id: " + applicationId + " 지원서가 존재하지 않습니다."));
 
-        if(!application.getRecruiting().getPost().getClub().equals(club) ) {
+        if(!application.getRecruiting().getPost().getClub().getId().equals(club.getId()) ) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
+        RecruitingStatDelta.Snapshot before = RecruitingStatDelta.Snapshot.of(application);
 
         if(applicationPutRequestDto.getMeetingStartTime() == null){
+            if(application.getMeetingTime() != null) {
+                meetingTimeRepository.release(application.getMeetingTime().getId());
+                publishBookingChanged(application, application.getMeetingTime().getId());
+            }
             application.setMeetingTime(null);
         }else if(application.getMeetingTime() == null || !application.getMeetingTime().getMeetingStartTime().equals(applicationPutRequestDto.getMeetingStartTime())) {
             MeetingTime meetingTime = meetingTimeRepository.findByMeetingStartTimeAndRecruiting(
@@ -145,70 +182,240 @@ public class ApplicationService {
                 throw new MeetingTimeNotFound("면접시간이 존재하지 않습니다.");
             }
 
-            if(meetingTime.getApplicationList().size() >= meetingTime.getAllowedNum() && !meetingTime.getApplicationList().contains(application)){
-                throw new AllowedNumExceededException("허용 인원을 초과하였습니다.");
-            }
-            application.setMeetingTime(meetingTime);
+            changeMeetingTime(application, meetingTime, "허용 인원을 초과하였습니다.");
         }
 
         application.setFormResult(applicationPutRequestDto.getFormResult());
         application.setMeetingResult(applicationPutRequestDto.getMeetingResult());
 
         applicationRepository.save(application);
+        recruitingStatService.record(application.getRecruiting().getId(), before, RecruitingStatDelta.Snapshot.of(application));
         return applicationMapper.toApplicationDto(application, false);
     }
 
     @Transactional
     public ApplicationDto updateFormScore(FormScoreDto formScoreDto, HttpSession session) {
-        Club club = checkClub(session);
+        SessionUser club = checkClub(session);
 
-        Application application = applicationRepository.findById(formScoreDto.getApplicationId())
+        Application application = applicationRepository.findByIdForUpdate(formScoreDto.getApplicationId())
                 .orElseThrow(() -> new ApplicationNotFoundException("지원서가 존재하지 않습니다."));
 
-        if(!application.getRecruiting().getPost().getClub().equals(club)) {
+        if(!application.getRecruiting().getPost().getClub().getId().equals(club.getId())) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
 
+        RecruitingStatDelta.Snapshot before = RecruitingStatDelta.Snapshot.of(application);
+
         // 점수 입력
-        Map<Long, Integer> questionScoreMap = formScoreDto.getScore().stream()
-                .collect(Collectors.toMap(AnswerScoreDto::getQuestionId, AnswerScoreDto::getScore));
-
-        Integer totalScore = 0;
-        for(Response response : application.getResponseList()) {
-            Long questionId = response.getQuestion().getId();
-            if (questionScoreMap.containsKey(questionId)) {
-                response.setScore(questionScoreMap.get(questionId));
-                totalScore += questionScoreMap.get(questionId);
-            }
-        }
-        application.setFormScore(totalScore);
+        application.setFormScore(applyFormScores(application.getResponseList(), formScoreDto.getScore()));
 
         applicationRepository.save(application);
+        recruitingStatService.record(application.getRecruiting().getId(), before, RecruitingStatDelta.Snapshot.of(application));
         return applicationMapper.toApplicationDto(application, true);
     }
 
     @Transactional
     public ApplicationDto updateMeetingScore(MeetingScoreDto meetingScoreDto, HttpSession session) {
-        Club club = checkClub(session);
+        SessionUser club = checkClub(session);
 
-        Application application = applicationRepository.findById(meetingScoreDto.getApplicationId())
+        Application application = applicationRepository.findByIdForUpdate(meetingScoreDto.getApplicationId())
                 .orElseThrow(() -> new ApplicationNotFoundException("지원서가 존재하지 않습니다."));
 
-        if(!application.getRecruiting().getPost().getClub().equals(club)) {
+        if(!application.getRecruiting().getPost().getClub().getId().equals(club.getId())) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
 
+        RecruitingStatDelta.Snapshot before = RecruitingStatDelta.Snapshot.of(application);
         application.setMeetingScore(meetingScoreDto.getScore());
         applicationRepository.save(application);
+        recruitingStatService.record(application.getRecruiting().getId(), before, RecruitingStatDelta.Snapshot.of(application));
         return applicationMapper.toApplicationDto(application, false);
     }
 
-    public ErrorCode sendEmail(EmailDto emailDto, HttpSession session) {
+    /**
+     * 서류/면접 점수 일괄 입력
+     * 세션 확인과 조회(지원서 행 잠금 포함)는 한 번씩만 하고, 변경된 엔티티는 커밋 시점에 hibernate.jdbc.batch_size 단위의 JDBC batch UPDATE로 반영됩니다.
+     * 서류 점수는 답변별 점수를 반영한 뒤 지원서의 전체 답변 점수 합계로 다시 계산합니다.
+     * @return 요청 항목별 처리 결과
+     */
+    @Transactional
+    public List<ScoreResultDto> updateScores(ScoreBatchRequestDto scoreBatchRequestDto, HttpSession session) {
+        SessionUser club = checkClub(session);
+        List<FormScoreDto> formScores = Optional.ofNullable(scoreBatchRequestDto.getFormScores()).orElse(List.of());
+        List<MeetingScoreDto> meetingScores = Optional.ofNullable(scoreBatchRequestDto.getMeetingScores()).orElse(List.of());
+
+        Set<Long> applicationIds = Stream.concat(
+                        formScores.stream().map(FormScoreDto::getApplicationId),
+                        meetingScores.stream().map(MeetingScoreDto::getApplicationId))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Application> applicationMap = applicationIds.isEmpty() ? Map.of()
+                : applicationRepository.findWithPostByIdInForUpdate(applicationIds).stream()
+                        .collect(Collectors.toMap(Application::getId, application -> application));
+        Map<Long, RecruitingStatDelta.Snapshot> snapshots = applicationMap.values().stream()
+                .collect(Collectors.toMap(Application::getId, RecruitingStatDelta.Snapshot::of));
+
+        Set<Long> formApplicationIds = formScores.stream()
+                .map(formScore -> applicationMap.get(formScore.getApplicationId()))
+                .filter(application -> application != null && isOwnedBy(application, club))
+                .map(Application::getId)
+                .collect(Collectors.toSet());
+        Map<Long, List<Response>> responseMap = formApplicationIds.isEmpty() ? Map.of()
+                : responseRepository.findByApplicationIdIn(formApplicationIds).stream()
+                        .collect(Collectors.groupingBy(response -> response.getApplication().getId()));
+
+        List<ScoreResultDto> results = new ArrayList<>();
+        for (FormScoreDto formScore : formScores) {
+            Long applicationId = formScore.getApplicationId();
+            ScoreResultDto.Status status = checkScoreTarget(applicationMap.get(applicationId), club);
+            if (status == null && (formScore.getScore() == null
+                    || formScore.getScore().stream().anyMatch(score -> score.getQuestionId() == null || score.getScore() == null))) {
+                status = ScoreResultDto.Status.INVALID;
+            }
+            if (status != null) {
+                results.add(new ScoreResultDto(applicationId, ScoreResultDto.Type.FORM, status, null));
+                continue;
+            }
+
+            int totalScore = applyFormScores(responseMap.getOrDefault(applicationId, List.of()), formScore.getScore());
+            applicationMap.get(applicationId).setFormScore(totalScore);
+            results.add(new ScoreResultDto(applicationId, ScoreResultDto.Type.FORM, ScoreResultDto.Status.UPDATED, totalScore));
+        }
+
+        for (MeetingScoreDto meetingScore : meetingScores) {
+            Long applicationId = meetingScore.getApplicationId();
+            ScoreResultDto.Status status = checkScoreTarget(applicationMap.get(applicationId), club);
+            if (status == null && meetingScore.getScore() == null) {
+                status = ScoreResultDto.Status.INVALID;
+            }
+            if (status != null) {
+                results.add(new ScoreResultDto(applicationId, ScoreResultDto.Type.MEETING, status, null));
+                continue;
+            }
+
+            applicationMap.get(applicationId).setMeetingScore(meetingScore.getScore());
+            results.add(new ScoreResultDto(applicationId, ScoreResultDto.Type.MEETING, ScoreResultDto.Status.UPDATED, meetingScore.getScore()));
+        }
+
+        // 바뀌지 않은 지원서는 증감분이 0이라 제외되고, 직무별로 합쳐서 한 번에 upsert
+        RecruitingStatDelta delta = new RecruitingStatDelta();
+        for (Application application : applicationMap.values()) {
+            delta.add(application.getRecruiting().getId(), snapshots.get(application.getId()), RecruitingStatDelta.Snapshot.of(application));
+        }
+        recruitingStatService.record(delta);
+        return results;
+    }
+
+    /**
+     * 답변별 점수를 반영하고 서류 점수(전체 답변 점수 합계)를 반환
+     * 일부 질문만 채점해도 이전에 채점한 답변 점수가 합계에 포함되도록 단건, 일괄 입력 모두 여기서 계산합니다.
+     */
+    private int applyFormScores(List<Response> responses, List<AnswerScoreDto> scores) {
+        Map<Long, Integer> questionScoreMap = scores.stream()
+                .collect(Collectors.toMap(AnswerScoreDto::getQuestionId, AnswerScoreDto::getScore, (first, second) -> second));
+        int totalScore = 0;
+        for (Response response : responses) {
+            Integer score = questionScoreMap.get(response.getQuestion().getId());
+            if (score != null) {
+                response.setScore(score);
+            }
+            totalScore += response.getScore();
+        }
+        return totalScore;
+    }
 
-        Club club = checkClub(session);
+    /**
+     * 점수 기준 결과 일괄 결정
+     * passScore 이상은 합격, 미만은 불합격으로 set-based UPDATE 두 번에 바꾸고 (점수가 없는 지원서는 그대로 둠)
+     * 홍보글 전체를 결정한 경우 모집 상태를 같은 트랜잭션에서 다음 단계로 올린 뒤 이력을 남깁니다.
+     */
+    @Transactional
+    public BulkDecisionResponseDto decideResults(BulkDecisionRequestDto bulkDecisionRequestDto, HttpSession session) {
+        SessionUser club = checkClub(session);
+        Long postId = bulkDecisionRequestDto.getPostId();
+        Long recruitingId = bulkDecisionRequestDto.getRecruitingId();
+        DecisionStage stage = bulkDecisionRequestDto.getStage();
+        Integer passScore = bulkDecisionRequestDto.getPassScore();
+        if (postId == null || stage == null || passScore == null) {
+            throw new InvalidDecisionException("postId, stage, passScore는 필수입니다.");
+        }
+
+        // 같은 홍보글에 대한 결정과 상태 변경이 동시에 실행되지 않도록 홍보글 행을 잠금
+        Post post = postRepository.findByIdForUpdate(postId)
+                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
+        if (!post.getClub().getId().equals(club.getId())) {
+            throw new UnauthorizedException("권한이 없습니다.");
+        }
+        if (recruitingId != null) {
+            Recruiting recruiting = recruitingRepository.findById(recruitingId)
+                    .orElseThrow(() -> new RecruitingNotFoundException("모집중 직무가 존재하지 않습니다."));
+            if (!recruiting.getPost().getId().equals(postId)) {
+                throw new RecruitingNotFoundException("id: " + recruitingId + " 직무가 홍보글에 존재하지 않습니다.");
+            }
+        }
+        if ((stage == DecisionStage.FORM && post.getRecruitmentType() == RecruitmentType.MEETING_ONLY)
+                || (stage == DecisionStage.MEETING && post.getRecruitmentType() == RecruitmentType.FORM_ONLY)) {
+            throw new InvalidDecisionException(post.getRecruitmentType() + " 홍보글에는 " + stage + " 결정을 할 수 없습니다.");
+        }
+
+        int passCount = applicationRepository.updateResultsByScore(postId, recruitingId, stage, passScore, ResultType.PASS);
+        int failCount = applicationRepository.updateResultsByScore(postId, recruitingId, stage, passScore, ResultType.FAIL);
+        long unscoredCount = applicationRepository.countUnscored(postId, recruitingId, stage);
+
+        // 일괄 UPDATE는 변경 전 결과를 알 수 없으므로 결정한 직무의 통계를 다시 계산
+        recruitingStatService.rebuild(recruitingId != null ? List.of(recruitingId)
+                : recruitingRepository.findByPostId(postId).stream().map(Recruiting::getId).collect(Collectors.toList()));
+
+        // 직무 하나만 결정한 경우 다른 직무가 남아있을 수 있으므로 홍보글 상태는 그대로 둠
+        RecruitmentStatus previousStatus = post.getRecruitmentStatus();
+        if (recruitingId == null
+                && (previousStatus == null || previousStatus.ordinal() < stage.getReachedStatus().ordinal())) {
+            post.setRecruitmentStatus(stage.getReachedStatus());
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
+        }
+
+        DecisionAudit audit = decisionAuditRepository.save(DecisionAudit.builder()
+                .clubId(club.getId())
+                .postId(postId)
+                .recruitingId(recruitingId)
+                .stage(stage)
+                .passScore(passScore)
+                .passCount(passCount)
+                .failCount(failCount)
+                .unscoredCount(unscoredCount)
+                .previousStatus(previousStatus)
+                .newStatus(post.getRecruitmentStatus())
+                .build());
+
+        return new BulkDecisionResponseDto(audit.getId(), passCount, failCount, unscoredCount, post.getRecruitmentStatus());
+    }
+
+    private ScoreResultDto.Status checkScoreTarget(Application application, SessionUser club) {
+        if (application == null) {
+            return ScoreResultDto.Status.NOT_FOUND;
+        }
+        if (!isOwnedBy(application, club)) {
+            return ScoreResultDto.Status.FORBIDDEN;
+        }
+        return null;
+    }
+
+    private boolean isOwnedBy(Application application, SessionUser club) {
+        return application.getRecruiting().getPost().getClub().getId().equals(club.getId());
+    }
+
+    /**
+     * 지원자에게 메일 발송 요청
+     * 수신자별 메일을 큐에 저장하고 바로 반환합니다. 실제 발송은 MailDispatcher가 처리합니다.
+     * @return 발송 상태 조회용 job id
+     */
+    @Transactional
+    public Long sendEmail(EmailDto emailDto, HttpSession session) {
+
+        SessionUser club = checkClub(session);
         Post post = postRepository.findById(emailDto.getPostId())
                 .orElseThrow(() -> new PostNotFoundException("권한이 없습니다."));
-        if(!post.getClub().equals(club)) {
+        if(!post.getClub().getId().equals(club.getId())) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
 
@@ -220,14 +427,11 @@ public class ApplicationService {
             emailList.add(app.getApplicant().getEmail());
         }
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(emailList.toArray(new String[0])); // 여러 명의 수신자
-        message.setSubject(emailDto.getTitle());
-        message.setText(emailDto.getContent());
-        message.setFrom("innerjoin75@gmail.com");
+        return mailQueueService.enqueue(club.getId(), post.getId(), emailDto.getTitle(), emailDto.getContent(), emailList);
+    }
 
-        mailSender.send(message);
-        return ErrorCode.SUCCESS;
+    public MailJobResponseDto getEmailStatus(Long jobId, HttpSession session) {
+        return mailQueueService.getStatus(jobId, checkClub(session).getId());
     }
 
     /**
@@ -238,21 +442,18 @@ public class ApplicationService {
      */
     @Transactional
     public MeetingTimeResponseDTO selectMeetingTime (MeetingTimeSelectionDto dto, HttpSession session){
-        Applicant applicant = checkApplicant(session);
-        Application application = applicationRepository.findById(dto.getApplicationId())
+        SessionUser applicant = checkApplicant(session);
+        Application application = applicationRepository.findByIdForUpdate(dto.getApplicationId())
                 .orElseThrow(()-> new ApplicationNotFoundException("지원 이력이 없습니다."));
-        if(!application.getApplicant().equals(applicant)){
+        if(!application.getApplicant().getId().equals(applicant.getId())){
             throw new UnauthorizedException("권한이 없습니다.");
         }
 
         MeetingTime meetingTime = meetingTimeRepository.findById(dto.getMeetingTimeId())
                 .orElseThrow(() -> new MeetingTimeNotFound("면접시간이 존재하지 않습니다."));
-        if(!meetingTime.getRecruiting().equals(application.getRecruiting())){
+        if(!meetingTime.getRecruiting().getId().equals(application.getRecruiting().getId())){
             throw new UnauthorizedException("권한이 없습니다.");
         }
-        if(meetingTime.getAllowedNum()<= meetingTime.getApplicationList().size()){
-            throw new AllowedNumExceededException("면접 허용 인원을 초과했습니다.");
-        }
 
         // 예약 종료 시간 확인
         LocalDateTime reservationEndTime = meetingTime.getRecruiting().getReservationEndTime();
@@ -261,32 +462,64 @@ public class ApplicationService {
         }
 
         //면접 시간 설정
-        application.setMeetingTime(meetingTime);
+        changeMeetingTime(application, meetingTime, "면접 허용 인원을 초과했습니다.");
         applicationRepository.save(application);
 
         return new MeetingTimeResponseDTO(
                 meetingTime.getId(),
                 meetingTime.getAllowedNum(),
-                meetingTime.getApplicationList().size() + 1,
+                meetingTimeRepository.findBookedCountById(meetingTime.getId()),
                 null,
                 meetingTime.getMeetingStartTime(),
                 meetingTime.getMeetingEndTime()
         );
     }
 
-    Applicant checkApplicant (HttpSession session) {
-        User user = sessionVerifier.verifySession(session);
-        if(!(user instanceof Applicant applicant)) {
+    /**
+     * 지원서의 면접 시간 변경
+     * 새 자리는 조건부 UPDATE로 잡고 이전 자리는 반납합니다. 예약에 실패하면 예외로 트랜잭션 전체가 롤백됩니다.
+     * 두 면접 시간 row는 id 순서로 잠가서 자리를 맞바꾸는 요청끼리 교착되지 않게 합니다.
+     * 호출 전에 지원서 row를 잠가서 같은 지원서의 중복 예약을 막아야 합니다.
+     */
+    private void changeMeetingTime(Application application, MeetingTime meetingTime, String exceededMessage) {
+        MeetingTime previous = application.getMeetingTime();
+        if(previous != null && previous.getId().equals(meetingTime.getId())) {
+            return;
+        }
+        if(previous != null && previous.getId() < meetingTime.getId()) {
+            meetingTimeRepository.release(previous.getId());
+            previous = null;
+        }
+        if(meetingTimeRepository.reserve(meetingTime.getId()) == 0) {
+            throw new AllowedNumExceededException(exceededMessage);
+        }
+        if(previous != null) {
+            meetingTimeRepository.release(previous.getId());
+        }
+        publishBookingChanged(application, meetingTime.getId(),
+                application.getMeetingTime() == null ? null : application.getMeetingTime().getId());
+        application.setMeetingTime(meetingTime);
+    }
+
+    // 잔여석 구독자에게 커밋 후 전송
+    private void publishBookingChanged(Application application, Long... meetingTimeIds) {
+        Set<Long> changed = Arrays.stream(meetingTimeIds).filter(Objects::nonNull).collect(Collectors.toSet());
+        eventPublisher.publishEvent(new MeetingTimeBookingChangedEvent(application.getRecruiting().getId(), changed));
+    }
+
+    SessionUser checkApplicant (HttpSession session) {
+        SessionUser user = sessionVerifier.verifySession(session);
+        if(!user.isApplicant()) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
-        return applicant;
+        return user;
     }
 
-    Club checkClub (HttpSession session) {
-        User user = sessionVerifier.verifySession(session);
-        if(!(user instanceof Club club)) {
+    SessionUser checkClub (HttpSession session) {
+        SessionUser user = sessionVerifier.verifySession(session);
+        if(!user.isClub()) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
-        return club;
+        return user;
     }
 }
@@ -0,0 +1,102 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.model.dto.response.FormResponseDto;
+import com.likelion.innerjoin.post.model.dto.response.QuestionResponseDto;
+import com.likelion.innerjoin.post.model.entity.Form;
+import com.likelion.innerjoin.post.model.entity.Question;
+import com.likelion.innerjoin.post.model.entity.QuestionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시용 지원폼 스냅샷
+ * <p>
+ * 질문 선택지(JSON)를 미리 파싱해 둔 불변 객체라서 여러 요청이 그대로 공유합니다.
+ * version은 내용으로 만든 해시라서 내용이 같으면 서버를 재시작해도 같은 값입니다.
+ */
+@Getter
+public final class CompiledForm {
+    private final Long id;
+    private final Long clubId;
+    private final String title;
+    private final String description;
+    private final List<CompiledQuestion> questions;
+    private final String version;
+
+    private final Map<Long, CompiledQuestion> questionMap;
+
+    private CompiledForm(Long id, Long clubId, String title, String description, List<CompiledQuestion> questions) {
+        this.id = id;
+        this.clubId = clubId;
+        this.title = title;
+        this.description = description;
+        this.questions = List.copyOf(questions);
+        this.questionMap = questions.stream()
+                .collect(Collectors.toUnmodifiableMap(CompiledQuestion::getId, Function.identity()));
+        this.version = hash();
+    }
+
+    public static CompiledForm of(Form form) {
+        List<Question> questionList = form.getQuestionList() == null ? List.of() : form.getQuestionList();
+        List<CompiledQuestion> questions = questionList.stream()
+                .sorted(Comparator.comparing(Question::getNumber, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Question::getId))
+                .map(question -> new CompiledQuestion(
+                        question.getId(),
+                        question.getNumber(),
+                        question.getContent(),
+                        question.getQuestionType(),
+                        question.getList() == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(question.getList()))))
+                .collect(Collectors.toList());
+        return new CompiledForm(form.getId(), form.getClub() == null ? null : form.getClub().getId(),
+                form.getTitle(), form.getDescription(), questions);
+    }
+
+    public CompiledQuestion getQuestion(Long questionId) {
+        return questionMap.get(questionId);
+    }
+
+    public boolean hasQuestion(Long questionId) {
+        return questionMap.containsKey(questionId);
+    }
+
+    // 응답 DTO는 setter가 있어서 요청마다 새로 만듦 (선택지 리스트는 불변이라 공유)
+    public FormResponseDto toFormResponseDto() {
+        List<QuestionResponseDto> questionList = new ArrayList<>();
+        for (CompiledQuestion question : questions) {
+            questionList.add(new QuestionResponseDto(
+                    question.getId(), question.getNumber(), question.getContent(), question.getType(), question.getOptions()));
+        }
+        return new FormResponseDto(id, title, description, questionList);
+    }
+
+    // 64bit FNV-1a
+    private String hash() {
+        StringBuilder content = new StringBuilder().append(id).append('|').append(title).append('|').append(description);
+        for (CompiledQuestion question : questions) {
+            content.append('|').append(question.getId()).append(',').append(question.getNumber()).append(',')
+                    .append(question.getType()).append(',').append(question.getContent()).append(',').append(question.getOptions());
+        }
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : content.toString().getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return Long.toHexString(hash);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class CompiledQuestion {
+        private final Long id;
+        private final Long number;
+        private final String content;
+        private final QuestionType type;
+        private final List<String> options;
+    }
+}
@@ -0,0 +1,48 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.common.cache.LocalCache;
+import com.likelion.innerjoin.post.event.FormChangedEvent;
+import com.likelion.innerjoin.post.exception.FormNotFoundException;
+import com.likelion.innerjoin.post.repository.FormRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 지원폼 캐시 (formId -> CompiledForm)
+ * <p>
+ * 지원 기간 동안 지원폼은 계속 조회되지만 거의 바뀌지 않으므로 질문까지 파싱한 스냅샷을 저장합니다.
+ * 지원폼이 수정/삭제되면 트랜잭션 커밋 후 해당 항목을 무효화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FormCache {
+    private static final int MAX_SIZE = 1_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final FormRepository formRepository;
+
+    private final LocalCache<Long, CompiledForm> cache = new LocalCache<>(MAX_SIZE, TTL);
+
+    // 조회 도중 무효화가 일어나면 조회한 (이전) 값은 캐시에 넣지 않음 (LocalCache.get 참고)
+    public CompiledForm get(Long formId) {
+        return cache.get(formId, id -> formRepository.findWithQuestionsById(id)
+                .map(CompiledForm::of)
+                .orElseThrow(() -> new FormNotFoundException("id: " + id + " 지원폼이 존재하지 않습니다.")));
+    }
+
+    public void invalidate(Long formId) {
+        cache.invalidate(formId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFormChanged(FormChangedEvent event) {
+        log.debug("지원폼 변경으로 캐시 무효화, formId: " + event.getFormId());
+        invalidate(event.getFormId());
+    }
+}
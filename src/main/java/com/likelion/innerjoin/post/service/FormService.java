@@ -1,5 +1,7 @@
 package com.likelion.innerjoin.post.service;
 
+import com.likelion.innerjoin.common.util.ResourceVersion;
+import com.likelion.innerjoin.post.event.FormChangedEvent;
 import com.likelion.innerjoin.post.exception.FormNotFoundException;
 import com.likelion.innerjoin.post.exception.UnauthorizedException;
 import com.likelion.innerjoin.post.model.dto.request.FormRequestDto;
@@ -11,12 +13,12 @@ import com.likelion.innerjoin.post.model.entity.Question;
 import com.likelion.innerjoin.post.model.mapper.FormMapper;
 import com.likelion.innerjoin.post.model.mapper.QuestionMapper;
 import com.likelion.innerjoin.post.repository.FormRepository;
-import com.likelion.innerjoin.user.model.entity.Club;
-import com.likelion.innerjoin.user.model.entity.User;
 import com.likelion.innerjoin.user.repository.ClubRepository;
+import com.likelion.innerjoin.user.util.SessionUser;
 import com.likelion.innerjoin.user.util.SessionVerifier;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -30,6 +32,8 @@ public class FormService {
     private final FormMapper formMapper;
     private final SessionVerifier sessionVerifier;
     private final QuestionMapper questionMapper;
+    private final FormCache formCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 지원폼 생성
@@ -39,7 +43,7 @@ public class FormService {
      */
     public FormResponseDto createForm(FormRequestDto formRequestDto, HttpSession session) {
         Form form = Form.builder()
-                .club(checkClub(session))
+                .club(clubRepository.getReferenceById(checkClub(session).getId()))
                 .title(formRequestDto.getTitle())
                 .description(formRequestDto.getDescription())
                 .build();
@@ -53,7 +57,7 @@ public class FormService {
      * @return 조회된 지원폼 리스트
      */
     public List<FormListResponseDto> getFormList(HttpSession session) {
-        List<Form> formList = formRepository.findAllByClub(checkClub(session));
+        List<Form> formList = formRepository.findAllByClubId(checkClub(session).getId());
         List<FormListResponseDto> formListResponseDtoList = new ArrayList<>();
         for (Form form : formList) {
             FormListResponseDto formListResponseDto = new FormListResponseDto();
@@ -73,11 +77,21 @@ public class FormService {
      * @return 조회된 지원폼
      */
     public FormResponseDto getForm(HttpSession session, Long formId) {
-        Form form = formRepository.findById(formId).orElseThrow(() -> new FormNotFoundException("id: " + formId + " 지원폼이 존재하지 않습니다."));
-//        if (!form.getClub().equals(checkClub(session))) {
+        CompiledForm form = formCache.get(formId);
+//        if (!form.getClubId().equals(checkClub(session).getId())) {
 //            throw new UnauthorizedException("권한이 없습니다.");
 //        }
-        return formMapper.toFormResponseDto(form);
+        return form.toFormResponseDto();
+    }
+
+    /**
+     * 지원폼 상세조회의 조건부 GET 검증자
+     * 캐시된 지원폼의 내용 해시(version)를 그대로 강한 ETag로 사용하므로 캐시에 있으면 DB를 조회하지 않습니다.
+     * @param formId 지원폼 id
+     * @return 검증자
+     */
+    public ResourceVersion getFormVersion(Long formId) {
+        return ResourceVersion.strong(formCache.get(formId).getVersion());
     }
 
     /**
@@ -89,7 +103,7 @@ public class FormService {
      */
     public FormResponseDto updateForm(HttpSession session, FormRequestDto formRequestDto, Long formId) {
         Form form = formRepository.findById(formId).orElseThrow(() -> new FormNotFoundException("id: " + formId + " 지원폼이 존재하지 않습니다."));
-        if (!form.getClub().equals(checkClub(session))) {
+        if (!form.getClub().getId().equals(checkClub(session).getId())) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
 
@@ -98,24 +112,27 @@ public class FormService {
         form.getQuestionList().clear();
         form.getQuestionList().addAll(questionMapper.toQuestionList(formRequestDto.getQuestionList(), form));
 
-        return formMapper.toFormResponseDto(formRepository.save(form));
+        Form savedForm = formRepository.save(form);
+        eventPublisher.publishEvent(new FormChangedEvent(formId));
+        return formMapper.toFormResponseDto(savedForm);
     }
 
     public Long deleteForm(HttpSession session, Long formId) {
         Form form = formRepository.findById(formId).orElseThrow(() -> new FormNotFoundException("id: " + formId + " 지원폼이 존재하지 않습니다."));
-        if (!form.getClub().equals(checkClub(session))) {
+        if (!form.getClub().getId().equals(checkClub(session).getId())) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
         formRepository.delete(form);
+        eventPublisher.publishEvent(new FormChangedEvent(formId));
         return form.getId();
     }
 
 
-    Club checkClub(HttpSession session) {
-        User user = sessionVerifier.verifySession(session);
-        if (!(user instanceof Club club)) {
+    SessionUser checkClub(HttpSession session) {
+        SessionUser user = sessionVerifier.verifySession(session);
+        if (!user.isClub()) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
-        return club;
+        return user;
     }
 }
@@ -0,0 +1,159 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.event.MeetingTimeBookingChangedEvent;
+import com.likelion.innerjoin.post.exception.InvalidDecisionException;
+import com.likelion.innerjoin.post.exception.RecruitingNotFoundException;
+import com.likelion.innerjoin.post.exception.UnauthorizedException;
+import com.likelion.innerjoin.post.model.dto.request.InterviewScheduleRequestDto;
+import com.likelion.innerjoin.post.model.dto.response.InterviewScheduleResponseDto;
+import com.likelion.innerjoin.post.model.entity.MeetingTime;
+import com.likelion.innerjoin.post.model.entity.Recruiting;
+import com.likelion.innerjoin.post.model.entity.RecruitmentType;
+import com.likelion.innerjoin.post.repository.ApplicationRepository;
+import com.likelion.innerjoin.post.repository.MeetingTimeRepository;
+import com.likelion.innerjoin.post.repository.RecruitingRepository;
+import com.likelion.innerjoin.post.util.InterviewScheduler;
+import com.likelion.innerjoin.user.util.SessionUser;
+import com.likelion.innerjoin.user.util.SessionVerifier;
+import jakarta.servlet.http.HttpSession;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 면접 시간 자동 배정
+ * 서류 합격자를 희망 면접 시간과 허용 인원에 맞춰 최대한 많이, 고르게 배정하고 JDBC batch 한 번으로 저장합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class InterviewScheduleService {
+    private final RecruitingRepository recruitingRepository;
+    private final MeetingTimeRepository meetingTimeRepository;
+    private final ApplicationRepository applicationRepository;
+    private final SessionVerifier sessionVerifier;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param request 희망 면접 시간과 dryRun 여부 (null이면 희망 시간 없이 배정하고 저장)
+     */
+    @Transactional
+    public InterviewScheduleResponseDto schedule(Long recruitingId, InterviewScheduleRequestDto request, HttpSession session) {
+        if (request == null) {
+            request = new InterviewScheduleRequestDto();
+        }
+        SessionUser club = checkClub(session);
+        Recruiting recruiting = recruitingRepository.findById(recruitingId)
+                .orElseThrow(() -> new RecruitingNotFoundException("Recruiting not found with id: " + recruitingId));
+        if (!recruiting.getPost().getClub().getId().equals(club.getId())) {
+            throw new UnauthorizedException("권한이 없습니다.");
+        }
+        if (recruiting.getPost().getRecruitmentType() == RecruitmentType.FORM_ONLY) {
+            throw new InvalidDecisionException("면접이 없는 모집(FORM_ONLY)은 면접 시간을 배정할 수 없습니다.");
+        }
+
+        // 배정하는 동안 지원자가 직접 예약하지 못하도록 면접 시간을 잠금
+        List<MeetingTime> slots = meetingTimeRepository.findByRecruitingIdForUpdate(recruitingId).stream()
+                .sorted(Comparator.comparing(MeetingTime::getMeetingStartTime, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(MeetingTime::getId))
+                .collect(Collectors.toList());
+        Map<Long, Integer> slotIndex = new HashMap<>();
+        for (int i = 0; i < slots.size(); i++) {
+            slotIndex.put(slots.get(i).getId(), i);
+        }
+
+        // 배정 대상: 서류 합격 + 면접 결과 대기 (기존 예약은 다시 배정)
+        List<Object[]> candidates = applicationRepository.findMeetingCandidates(recruitingId);
+        long[] applicationIds = new long[candidates.size()];
+        int[] currentSlots = new int[candidates.size()];
+        int[] heldByCandidates = new int[slots.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            applicationIds[i] = (Long) candidates.get(i)[0];
+            Integer current = candidates.get(i)[1] == null ? null : slotIndex.get((Long) candidates.get(i)[1]);
+            currentSlots[i] = current == null ? InterviewScheduler.UNASSIGNED : current;
+            if (current != null) {
+                heldByCandidates[current]++;
+            }
+        }
+
+        // 배정 대상이 아닌 지원서의 예약은 그대로 두므로 그만큼 허용 인원에서 뺌
+        int[] capacities = new int[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            MeetingTime slot = slots.get(i);
+            capacities[i] = Math.max(slot.getAllowedNum() - (slot.getBookedCount() - heldByCandidates[i]), 0);
+        }
+
+        Map<Long, List<Long>> requested = Optional.ofNullable(request.getPreferences()).orElse(Map.of());
+        int[][] preferences = new int[candidates.size()][];
+        for (int i = 0; i < candidates.size(); i++) {
+            preferences[i] = toPreference(requested.get(applicationIds[i]), currentSlots[i], slotIndex, slots.size());
+        }
+
+        int[] result = InterviewScheduler.solve(preferences, capacities);
+
+        List<InterviewScheduleResponseDto.AssignmentDto> assignments = new ArrayList<>();
+        List<Long> unscheduled = new ArrayList<>();
+        Map<Long, Long> changed = new LinkedHashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (result[i] == InterviewScheduler.UNASSIGNED) {
+                unscheduled.add(applicationIds[i]);
+            } else {
+                assignments.add(new InterviewScheduleResponseDto.AssignmentDto(
+                        applicationIds[i], slots.get(result[i]).getId(), rankOf(preferences[i], result[i])));
+            }
+            if (result[i] != currentSlots[i]) {
+                changed.put(applicationIds[i], result[i] == InterviewScheduler.UNASSIGNED ? null : slots.get(result[i]).getId());
+            }
+        }
+
+        if (!request.isDryRun() && !changed.isEmpty()) {
+            applicationRepository.updateMeetingTimes(changed);
+            meetingTimeRepository.syncBookedCountByRecruitingId(recruitingId);
+            eventPublisher.publishEvent(new MeetingTimeBookingChangedEvent(recruitingId,
+                    slots.stream().map(MeetingTime::getId).collect(Collectors.toSet())));
+        }
+
+        return new InterviewScheduleResponseDto(recruitingId, !request.isDryRun(), assignments.size(), assignments, unscheduled);
+    }
+
+    private int[] toPreference(List<Long> preferredIds, int currentSlot, Map<Long, Integer> slotIndex, int slotCount) {
+        LinkedHashSet<Integer> preference = new LinkedHashSet<>();
+        if (preferredIds != null) {
+            // 다른 직무의 면접 시간 id는 무시
+            for (Long id : preferredIds) {
+                Integer index = slotIndex.get(id);
+                if (index != null) {
+                    preference.add(index);
+                }
+            }
+        } else {
+            if (currentSlot != InterviewScheduler.UNASSIGNED) {
+                preference.add(currentSlot);
+            }
+            for (int i = 0; i < slotCount; i++) {
+                preference.add(i);
+            }
+        }
+        return preference.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int rankOf(int[] preference, int slot) {
+        for (int i = 0; i < preference.length; i++) {
+            if (preference[i] == slot) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    SessionUser checkClub(HttpSession session) {
+        SessionUser user = sessionVerifier.verifySession(session);
+        if (!user.isClub()) {
+            throw new UnauthorizedException("권한이 없습니다.");
+        }
+        return user;
+    }
+}
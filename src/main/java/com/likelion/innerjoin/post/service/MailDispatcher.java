@@ -0,0 +1,94 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.config.ExecutorConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 메일 큐 발송 워커
+ * <p>
+ * 주기적으로 발송할 메일을 묶음 단위로 선점해서 mailExecutor에 넘깁니다.
+ * 한 묶음은 JavaMailSender.send(SimpleMailMessage...) 한 번으로 보내므로 SMTP 연결 하나를 재사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailDispatcher {
+    private static final int BATCH_SIZE = 50;
+
+    private final MailQueueService mailQueueService;
+    private final JavaMailSender mailSender;
+    private final ThreadPoolTaskExecutor mailExecutor;
+
+    // 쉬고 있는 워커 수만큼만 선점해서 선점한 메일이 큐에서 오래 기다리지 않게 함
+    private final Semaphore idleWorkers = new Semaphore(ExecutorConfig.MAIL_WORKERS);
+
+    @Scheduled(fixedDelayString = "${mail.queue.poll-interval:1000}")
+    public void poll() {
+        while (idleWorkers.tryAcquire()) {
+            Map<Long, SimpleMailMessage> batch;
+            try {
+                batch = mailQueueService.claim(BATCH_SIZE);
+            } catch (RuntimeException e) {
+                idleWorkers.release();
+                log.error("메일 큐 조회 실패", e);
+                return;
+            }
+            if (batch.isEmpty()) {
+                idleWorkers.release();
+                return;
+            }
+            mailExecutor.execute(() -> {
+                try {
+                    send(batch);
+                } finally {
+                    idleWorkers.release();
+                }
+            });
+        }
+    }
+
+    private void send(Map<Long, SimpleMailMessage> batch) {
+        Map<SimpleMailMessage, Long> deliveryIds = new IdentityHashMap<>();
+        batch.forEach((id, message) -> deliveryIds.put(message, id));
+
+        Map<Long, String> errors = new HashMap<>();
+        try {
+            mailSender.send(batch.values().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            // 일부 수신자만 실패한 경우 실패한 메일만 다시 시도
+            e.getFailedMessages().forEach((message, exception) -> {
+                Long id = deliveryIds.get(message);
+                if (id != null) {
+                    errors.put(id, exception.getMessage());
+                }
+            });
+            if (errors.isEmpty()) {
+                batch.keySet().forEach(id -> errors.put(id, e.getMessage()));
+            }
+        } catch (MailException e) {
+            // 인증 실패, 연결 실패 등은 묶음 전체 실패
+            batch.keySet().forEach(id -> errors.put(id, e.getMessage()));
+        }
+
+        List<Long> sent = new ArrayList<>(batch.keySet());
+        sent.removeAll(errors.keySet());
+        if (!sent.isEmpty()) {
+            mailQueueService.markSent(sent);
+        }
+        if (!errors.isEmpty()) {
+            log.warn("메일 발송 실패 " + errors.size() + "건");
+            mailQueueService.markFailed(errors);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.exception.MailJobNotFoundException;
+import com.likelion.innerjoin.post.exception.UnauthorizedException;
+import com.likelion.innerjoin.post.model.dto.response.MailJobResponseDto;
+import com.likelion.innerjoin.post.model.entity.MailDelivery;
+import com.likelion.innerjoin.post.model.entity.MailDeliveryStatus;
+import com.likelion.innerjoin.post.model.entity.MailJob;
+import com.likelion.innerjoin.post.model.entity.MailJobStatus;
+import com.likelion.innerjoin.post.repository.MailDeliveryRepository;
+import com.likelion.innerjoin.post.repository.MailJobRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 메일 발송 큐
+ * <p>
+ * 요청 스레드에서는 수신자별 발송 내역만 저장하고, 실제 발송은 MailDispatcher가 나눠서 처리합니다.
+ * 실패한 메일은 지수 백오프로 MAX_ATTEMPTS번까지 다시 시도합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailQueueService {
+    public static final String FROM = "innerjoin75@gmail.com";
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration STUCK_TIMEOUT = Duration.ofMinutes(10);
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final MailJobRepository mailJobRepository;
+    private final MailDeliveryRepository mailDeliveryRepository;
+
+    /**
+     * 메일 발송 요청 저장
+     * @return 발송 상태 조회용 job id
+     */
+    @Transactional
+    public Long enqueue(Long clubId, Long postId, String subject, String content, Collection<String> recipients) {
+        MailJob job = mailJobRepository.save(MailJob.builder()
+                .clubId(clubId)
+                .postId(postId)
+                .subject(subject)
+                .content(content)
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<MailDelivery> deliveries = new ArrayList<>();
+        for (String recipient : new LinkedHashSet<>(recipients)) {
+            deliveries.add(MailDelivery.builder()
+                    .job(job)
+                    .recipient(recipient)
+                    .status(MailDeliveryStatus.PENDING)
+                    .nextAttemptAt(now)
+                    .build());
+        }
+        mailDeliveryRepository.saveAll(deliveries);
+        return job.getId();
+    }
+
+    /**
+     * 발송할 메일을 최대 batchSize개 선점
+     * @return delivery id -> 수신자 한 명짜리 메일
+     */
+    @Transactional
+    public Map<Long, SimpleMailMessage> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        mailDeliveryRepository.releaseStuck(now.minus(STUCK_TIMEOUT));
+
+        List<MailDelivery> deliveries = mailDeliveryRepository.findDue(
+                MailDeliveryStatus.PENDING, now, PageRequest.of(0, batchSize));
+
+        Map<Long, SimpleMailMessage> messages = new LinkedHashMap<>();
+        for (MailDelivery delivery : deliveries) {
+            delivery.setStatus(MailDeliveryStatus.SENDING);
+            delivery.setAttemptCount(delivery.getAttemptCount() + 1);
+
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(delivery.getRecipient());
+            message.setSubject(delivery.getJob().getSubject());
+            message.setText(delivery.getJob().getContent());
+            message.setFrom(FROM);
+            messages.put(delivery.getId(), message);
+        }
+        return messages;
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> deliveryIds) {
+        for (MailDelivery delivery : mailDeliveryRepository.findAllById(deliveryIds)) {
+            delivery.setStatus(MailDeliveryStatus.SENT);
+            delivery.setLastError(null);
+        }
+    }
+
+    /**
+     * 발송 실패 처리
+     * 시도 횟수가 남아 있으면 30초, 1분, 2분... 뒤에 다시 발송합니다.
+     */
+    @Transactional
+    public void markFailed(Map<Long, String> errors) {
+        LocalDateTime now = LocalDateTime.now();
+        for (MailDelivery delivery : mailDeliveryRepository.findAllById(errors.keySet())) {
+            String error = errors.get(delivery.getId());
+            delivery.setLastError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            if (delivery.getAttemptCount() >= MAX_ATTEMPTS) {
+                delivery.setStatus(MailDeliveryStatus.FAILED);
+            } else {
+                delivery.setStatus(MailDeliveryStatus.PENDING);
+                delivery.setNextAttemptAt(now.plus(BASE_BACKOFF.multipliedBy(1L << (delivery.getAttemptCount() - 1))));
+            }
+        }
+    }
+
+    /**
+     * 발송 상태 조회
+     * @param jobId 메일 job id
+     * @param clubId 요청한 동아리 id
+     */
+    public MailJobResponseDto getStatus(Long jobId, Long clubId) {
+        MailJob job = mailJobRepository.findById(jobId)
+                .orElseThrow(() -> new MailJobNotFoundException("메일 발송 내역이 존재하지 않습니다."));
+        if (!job.getClubId().equals(clubId)) {
+            throw new UnauthorizedException("권한이 없습니다.");
+        }
+
+        Map<MailDeliveryStatus, Long> counts = new EnumMap<>(MailDeliveryStatus.class);
+        for (Object[] row : mailDeliveryRepository.countByStatus(jobId)) {
+            counts.put((MailDeliveryStatus) row[0], (Long) row[1]);
+        }
+        long pending = counts.getOrDefault(MailDeliveryStatus.PENDING, 0L) + counts.getOrDefault(MailDeliveryStatus.SENDING, 0L);
+        long sent = counts.getOrDefault(MailDeliveryStatus.SENT, 0L);
+        long failed = counts.getOrDefault(MailDeliveryStatus.FAILED, 0L);
+
+        return MailJobResponseDto.builder()
+                .jobId(job.getId())
+                .status(toJobStatus(pending, sent, failed))
+                .total(pending + sent + failed)
+                .pending(pending)
+                .sent(sent)
+                .failed(failed)
+                .createdAt(job.getCreatedAt())
+                .build();
+    }
+
+    private MailJobStatus toJobStatus(long pending, long sent, long failed) {
+        if (pending > 0) {
+            return sent + failed == 0 ? MailJobStatus.PENDING : MailJobStatus.IN_PROGRESS;
+        }
+        if (failed == 0) {
+            return MailJobStatus.COMPLETED;
+        }
+        return sent == 0 ? MailJobStatus.FAILED : MailJobStatus.PARTIALLY_FAILED;
+    }
+}
@@ -1,35 +1,55 @@
 package com.likelion.innerjoin.post.service;
 
 import com.likelion.innerjoin.common.response.CommonResponse;
+import com.likelion.innerjoin.common.util.ResourceVersion;
+import com.likelion.innerjoin.post.event.PostChangedEvent;
+import com.likelion.innerjoin.post.exception.MeetingTimeInUseException;
 import com.likelion.innerjoin.post.exception.PostNotFoundException;
 import com.likelion.innerjoin.post.exception.RecruitingNotFoundException;
 import com.likelion.innerjoin.post.exception.UnauthorizedException;
+import com.likelion.innerjoin.post.model.dto.response.MeetingTimeAvailabilityDTO;
 import com.likelion.innerjoin.post.model.dto.response.MeetingTimeResponseDTO;
 import com.likelion.innerjoin.post.model.dto.response.MeetingTimeListResponseDTO;
 import com.likelion.innerjoin.post.model.entity.*;
 import com.likelion.innerjoin.post.model.dto.request.MeetingTimeRequestDTO;
+import com.likelion.innerjoin.post.repository.ApplicationRepository;
 import com.likelion.innerjoin.post.repository.MeetingTimeRepository;
 import com.likelion.innerjoin.post.repository.PostRepository;
 import com.likelion.innerjoin.post.repository.RecruitingRepository;
-import com.likelion.innerjoin.user.model.entity.Club;
-import com.likelion.innerjoin.user.model.entity.User;
+import com.likelion.innerjoin.user.util.SessionUser;
 import com.likelion.innerjoin.user.util.SessionVerifier;
 import jakarta.servlet.http.HttpSession;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MeetingTimeService {
 
     private final RecruitingRepository recruitingRepository;
     private final MeetingTimeRepository meetingTimeRepository;
+    private final ApplicationRepository applicationRepository;
+    private final SlotAvailabilityHub slotAvailabilityHub;
     private final PostRepository postRepository;
     private final SessionVerifier sessionVerifier;
+    private final ApplicationEventPublisher eventPublisher;
     
     //면접시간 리스트 생성
     @Transactional
@@ -52,73 +72,158 @@ public class MeetingTimeService {
             throw new IllegalStateException("면접 시간이 이미 공개되어서(TIME_SET) 다시 설정할 수 없습니다.");
         }
 
-        // 기존 MeetingTime 삭제
-        List<MeetingTime> existingMeetingTimes = meetingTimeRepository.findByRecruitingId(recruitingId);
-        if (!existingMeetingTimes.isEmpty()) {
-            meetingTimeRepository.deleteAll(existingMeetingTimes);
+        // 기존 면접 시간과 (시작, 종료) 시간으로 비교해서 바뀐 것만 반영
+        Map<String, MeetingTime> existingMap = meetingTimeRepository.findByRecruitingIdForUpdate(recruitingId).stream()
+                .collect(Collectors.toMap(
+                        meetingTime -> slotKey(meetingTime.getMeetingStartTime(), meetingTime.getMeetingEndTime()),
+                        meetingTime -> meetingTime,
+                        (first, second) -> first));
+
+        List<MeetingTime> newMeetingTimes = new ArrayList<>();
+        Set<String> requestedKeys = new HashSet<>();
+        for (MeetingTimeRequestDTO.MeetingTimeDto dto : request.getMeetingTimes()) {
+            String key = slotKey(dto.getMeetingStartTime(), dto.getMeetingEndTime());
+            if (!requestedKeys.add(key)) {
+                continue; // 같은 시간이 중복으로 들어온 경우 처음 것만 사용
+            }
+
+            MeetingTime existing = existingMap.get(key);
+            if (existing == null) {
+                MeetingTime meetingTime = new MeetingTime();
+                meetingTime.setAllowedNum(dto.getAllowedNum());
+                meetingTime.setMeetingStartTime(dto.getMeetingStartTime());
+                meetingTime.setMeetingEndTime(dto.getMeetingEndTime());
+                newMeetingTimes.add(meetingTime);
+            } else if (existing.getAllowedNum() != dto.getAllowedNum()) {
+                // 이미 예약한 인원보다 적게 줄일 수는 없음
+                if (dto.getAllowedNum() < existing.getBookedCount()) {
+                    throw new MeetingTimeInUseException(existing.getMeetingStartTime() + " 면접 시간에 이미 "
+                            + existing.getBookedCount() + "명이 예약해서 허용 인원을 " + dto.getAllowedNum() + "명으로 줄일 수 없습니다.");
+                }
+                existing.setAllowedNum(dto.getAllowedNum());
+            }
         }
 
-        // 새로운 MeetingTime 엔티티 생성 및 저장
-        List<MeetingTime> meetingTimes = request.getMeetingTimes().stream()
-                .map(dto -> {
-                    MeetingTime meetingTime = new MeetingTime();
-                    meetingTime.setAllowedNum(dto.getAllowedNum());
-                    meetingTime.setMeetingStartTime(dto.getMeetingStartTime());
-                    meetingTime.setMeetingEndTime(dto.getMeetingEndTime());
-                    meetingTime.setRecruiting(recruiting);
-                    return meetingTime;
-                })
+        // 요청에 없는 면접 시간은 삭제 (예약이 있는 면접 시간은 삭제하지 않고 거절)
+        List<MeetingTime> removedMeetingTimes = existingMap.entrySet().stream()
+                .filter(entry -> !requestedKeys.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
                 .collect(Collectors.toList());
+        for (MeetingTime removed : removedMeetingTimes) {
+            if (removed.getBookedCount() > 0) {
+                throw new MeetingTimeInUseException(removed.getMeetingStartTime() + " 면접 시간에 예약한 지원자가 있어서 삭제할 수 없습니다.");
+            }
+        }
+        if (!removedMeetingTimes.isEmpty()) {
+            meetingTimeRepository.deleteAllByIdInBatch(removedMeetingTimes.stream().map(MeetingTime::getId).collect(Collectors.toList()));
+        }
 
-        meetingTimeRepository.saveAll(meetingTimes);
+        meetingTimeRepository.insertAll(recruitingId, newMeetingTimes);
 
-        // Recruiting 예약 시작/종료 시간 설정
+        // Recruiting 예약 시작/종료 시간 설정 (마감이 바뀌면 마감 알림을 다시 보냄)
+        if (!Objects.equals(recruiting.getReservationEndTime(), request.getReservationEndTime())) {
+            recruiting.setReminderSentAt(null);
+        }
         recruiting.setReservationStartTime(request.getReservationStartTime());
         recruiting.setReservationEndTime(request.getReservationEndTime());
         recruitingRepository.save(recruiting); // 변경 사항 저장
+        // 예약 시작/마감 일정 다시 예약
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
+    }
+
+
+
+    private String slotKey(LocalDateTime startTime, LocalDateTime endTime) {
+        return startTime + "~" + endTime;
+    }
+
+    /**
+     * 예약 인원 수 동기화
+     * booked_count 컬럼 추가 이전 데이터와, 서버 밖에서 변경된 예약 내역을 맞추기 위해 시작 시 한 번 실행합니다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncBookedCount() {
+        int updated = meetingTimeRepository.syncBookedCount();
+        log.info("면접 시간 예약 인원 동기화 완료: " + updated + "건");
+    }
+
+    SessionUser checkClub(HttpSession session) {
+        SessionUser user = sessionVerifier.verifySession(session);
+        if (!user.isClub()) {
+            throw new UnauthorizedException("권한이 없습니다.");
+        }
+        return user;
     }
 
+    /**
+     * 특정 recruiting의 면접 시간별 잔여석 조회 (지원자용)
+     * meeting_time의 booked_count만 읽으므로 지원서, 지원자 정보는 조회하지 않습니다.
+     */
+    public List<MeetingTimeAvailabilityDTO> getAvailability(Long recruitingId) {
+        List<MeetingTimeAvailabilityDTO> availability = meetingTimeRepository.findAvailabilityByRecruitingId(recruitingId);
+        if (availability.isEmpty() && !recruitingRepository.existsById(recruitingId)) {
+            throw new RecruitingNotFoundException("Recruiting not found with id: " + recruitingId);
+        }
+        return availability;
+    }
 
+    /**
+     * 특정 recruiting의 잔여석 실시간 구독 (지원자용)
+     * 구독 시점의 전체 잔여석을 한 번 보내고, 이후에는 예약이 바뀐 면접 시간만 보냅니다.
+     * 잔여석은 구독을 등록한 뒤에 조회합니다. (SlotAvailabilityHub.subscribe 참고)
+     * 이 경로는 open-in-view에서 빠져 있어서 조회가 끝나면 커넥션을 반납하고, emitter가 열려 있는 동안 커넥션을 잡지 않습니다.
+     */
+    public SseEmitter subscribeAvailability(Long recruitingId) {
+        return slotAvailabilityHub.subscribe(recruitingId, () -> getAvailability(recruitingId));
+    }
 
-    Club checkClub(HttpSession session) {
-        User user = sessionVerifier.verifySession(session);
-        if (!(user instanceof Club club)) {
+    /**
+     * 면접시간 정보 조회(동아리용)의 조건부 GET 검증자
+     * 권한 확인 후 직무, 면접 시간, 예약한 지원서/지원자의 modifiedAt과 개수로 만듭니다. (예약자 명단은 조회하지 않음)
+     */
+    public ResourceVersion getMeetingTimesVersion(Long recruitingId, HttpSession session) {
+        Object[] row = recruitingRepository.findMeetingTimesVersion(recruitingId).stream()
+                .findFirst()
+                .orElseThrow(() -> new RecruitingNotFoundException("Recruiting not found with id: " + recruitingId));
+        if (!row[0].equals(checkClub(session).getId())) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
-        return club;
+        return ResourceVersion.weak(Arrays.copyOfRange(row, 1, row.length));
     }
 
-    // 특정 recruiting의 면접시간 정보 조회
-    public CommonResponse<MeetingTimeListResponseDTO> getMeetingTimesByRecruitingId(Long recruitingId) {
+    // 특정 recruiting의 면접시간 정보 조회 (예약자 명단 포함, 동아리용)
+    public CommonResponse<MeetingTimeListResponseDTO> getMeetingTimesByRecruitingId(Long recruitingId, HttpSession session) {
         // recruiting 찾기
         Recruiting recruiting = recruitingRepository.findById(recruitingId)
-                .orElseThrow(() -> new IllegalArgumentException("Recruiting not found with id: " + recruitingId));
+                .orElseThrow(() -> new RecruitingNotFoundException("Recruiting not found with id: " + recruitingId));
+        if (!recruiting.getPost().getClub().getId().equals(checkClub(session).getId())) {
+            throw new UnauthorizedException("권한이 없습니다.");
+        }
 
         // recruiting과 연관된 면접시간 리스트
         List<MeetingTime> meetingTimes = meetingTimeRepository.findByRecruiting(recruiting);
 
+        // 예약된 사람 리스트 (면접 시간별)
+        Map<Long, List<MeetingTimeResponseDTO.ApplicantDTO>> applicantMap = applicationRepository.findBookedByRecruitingId(recruitingId).stream()
+                .collect(Collectors.groupingBy(
+                        application -> application.getMeetingTime().getId(),
+                        Collectors.mapping(application -> new MeetingTimeResponseDTO.ApplicantDTO(
+                                application.getApplicant().getId(),
+                                application.getApplicant().getName(),
+                                application.getApplicant().getStudentNumber()
+                        ), Collectors.toList())));
+
         // DTO로 변환
         List<MeetingTimeResponseDTO> meetingTimeDtos = meetingTimes.stream()
-                .map(meetingTime -> {
-                    // 예약된 사람 리스트
-                    List<Application> applications = meetingTime.getApplicationList();
-                    List<MeetingTimeResponseDTO.ApplicantDTO> applicantDtos = applications.stream()
-                            .map(application -> new MeetingTimeResponseDTO.ApplicantDTO(
-                                    application.getApplicant().getId(),
-                                    application.getApplicant().getName(),
-                                    application.getApplicant().getStudentNumber()
-                            ))
-                            .collect(Collectors.toList());
-
-                    return new MeetingTimeResponseDTO(
-                            meetingTime.getId(),
-                            meetingTime.getAllowedNum(),
-                            applications.size(), // 예약된 사람 수
-                            applicantDtos,
-                            meetingTime.getMeetingStartTime(),
-                            meetingTime.getMeetingEndTime()
-                    );
-                })
+                .map(meetingTime -> new MeetingTimeResponseDTO(
+                        meetingTime.getId(),
+                        meetingTime.getAllowedNum(),
+                        meetingTime.getBookedCount(), // 예약된 사람 수
+                        applicantMap.getOrDefault(meetingTime.getId(), List.of()),
+                        meetingTime.getMeetingStartTime(),
+                        meetingTime.getMeetingEndTime()
+                ))
                 .collect(Collectors.toList());
 
         MeetingTimeListResponseDTO responseDto = new MeetingTimeListResponseDTO(
@@ -0,0 +1,133 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.event.PostChangedEvent;
+import com.likelion.innerjoin.post.model.entity.Post;
+import com.likelion.innerjoin.post.repository.PostRepository;
+import com.likelion.innerjoin.post.util.DeadlineCursor;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 모집중인 홍보글의 마감 시각 색인
+ * <p>
+ * 모집중인 홍보글을 (endTime, postId) 순으로 skip list에 담아 두고, "마감 임박순", "오늘 마감" 리스트를
+ * 현재 시각 위치를 찾는 O(log n)과 꺼내는 k개만으로 응답합니다.
+ * 애플리케이션 시작 시 마감 전인 홍보글만 채우고, 이후에는 홍보글 변경 이벤트로 해당 홍보글만 다시 넣습니다.
+ * 지원 마감 시각에는 RecruitmentLifecycleScheduler가 PostChangedEvent를 발행하므로 마감된 홍보글도 그때 빠지고,
+ * 그 전에 조회하더라도 현재 시각 이전은 건너뜁니다.
+ * <p>
+ * 조회는 잠금 없이 하고, 쓰기(skip list와 postId별 마감 시각을 함께 바꾸는 작업)만 직렬화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenPostIndex {
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::getEndTime)
+            .thenComparing(Entry::getPostId);
+
+    private final PostRepository postRepository;
+
+    private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, LocalDateTime> endTimes = new ConcurrentHashMap<>();
+
+    /**
+     * 마감 임박순 조회
+     * @param now 모집중 여부 판단 기준 시각 (endTime >= now)
+     * @param until 이 시각 전에 마감되는 홍보글만 (null이면 제한 없음)
+     * @param after 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param limit 최대 개수
+     * @return (endTime, postId) 오름차순 리스트
+     */
+    public List<Entry> findOpen(LocalDateTime now, LocalDateTime until, DeadlineCursor after, int limit) {
+        Entry from = new Entry(now, Long.MIN_VALUE);
+        NavigableSet<Entry> range;
+        if (after != null && ORDER.compare(new Entry(after.getEndTime(), after.getPostId()), from) >= 0) {
+            range = entries.tailSet(new Entry(after.getEndTime(), after.getPostId()), false);
+        } else {
+            range = entries.tailSet(from, true);
+        }
+        if (until != null) {
+            range = range.headSet(new Entry(until, Long.MIN_VALUE), false);
+        }
+
+        List<Entry> result = new ArrayList<>();
+        Iterator<Entry> iterator = range.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, LocalDateTime> open = new HashMap<>();
+        for (Object[] row : postRepository.findOpenEndTimes(now)) {
+            open.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+        synchronized (this) {
+            entries.clear();
+            endTimes.clear();
+            open.forEach((postId, endTime) -> put(postId, endTime, now));
+        }
+        log.info("모집중 홍보글 마감 색인 완료: " + open.size() + "건");
+    }
+
+    // 홍보글 생성/수정/삭제, 지원 마감 후 해당 홍보글만 다시 넣음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Long postId = event.getPostId();
+        LocalDateTime endTime = postRepository.findById(postId).map(Post::getEndTime).orElse(null);
+        put(postId, endTime, LocalDateTime.now());
+    }
+
+    /**
+     * 홍보글의 마감 시각을 반영 (마감 시각이 없거나 지났으면 색인에서 제거)
+     */
+    synchronized void put(Long postId, LocalDateTime endTime, LocalDateTime now) {
+        LocalDateTime previous = endTimes.remove(postId);
+        if (previous != null) {
+            entries.remove(new Entry(previous, postId));
+        }
+        if (endTime == null || endTime.isBefore(now)) {
+            return;
+        }
+        endTimes.put(postId, endTime);
+        entries.add(new Entry(endTime, postId));
+    }
+
+    int size() {
+        return endTimes.size();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static final class Entry {
+        private final LocalDateTime endTime;
+        private final Long postId;
+
+        public DeadlineCursor toCursor() {
+            return new DeadlineCursor(endTime, postId);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.common.cache.LocalCache;
+import com.likelion.innerjoin.post.event.PostChangedEvent;
+import com.likelion.innerjoin.post.model.dto.response.PostPageResponseDTO;
+import com.likelion.innerjoin.user.event.ClubChangedEvent;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 홍보글 리스트(GET /posts) 캐시
+ * <p>
+ * 검색어, 필터 조합과 커서별로 렌더링된 페이지를 저장합니다. dDay는 시간에 따라 바뀌므로 캐시에는 넣지 않고 응답할 때 계산합니다.
+ * 홍보글이 변경되면 트랜잭션 커밋 후 전체를 무효화합니다.
+ */
+@Slf4j
+@Component
+public class PostFeedCache {
+    private static final int MAX_SIZE = 500;
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final LocalCache<Key, PostPageResponseDTO> cache = new LocalCache<>(MAX_SIZE, TTL);
+
+    public PostPageResponseDTO get(String q, String clubName, Long categoryId, String recruitmentType, Boolean isRecruiting,
+                                   String cursor, Integer size, Supplier<PostPageResponseDTO> loader) {
+        Key key = new Key(q, clubName, categoryId, recruitmentType, isRecruiting, cursor, size);
+        return cache.get(key, k -> loader.get());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        log.debug("홍보글 변경으로 리스트 캐시 무효화, postId: " + event.getPostId());
+        invalidateAll();
+    }
+
+    // 동아리 이름, 카테고리가 리스트에 포함되므로 동아리 정보가 바뀌어도 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClubChanged(ClubChangedEvent event) {
+        log.debug("동아리 정보 변경으로 리스트 캐시 무효화, clubId: " + event.getClubId());
+        invalidateAll();
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final String q;
+        private final String clubName;
+        private final Long categoryId;
+        private final String recruitmentType;
+        private final Boolean isRecruiting;
+        private final String cursor;
+        private final Integer size;
+
+        private Key(String q, String clubName, Long categoryId, String recruitmentType, Boolean isRecruiting, String cursor, Integer size) {
+            this.q = q == null || q.isBlank() ? null : q;
+            this.clubName = clubName == null || clubName.isEmpty() ? null : clubName;
+            this.categoryId = categoryId;
+            this.recruitmentType = recruitmentType == null || recruitmentType.isEmpty() ? null : recruitmentType;
+            this.isRecruiting = isRecruiting;
+            this.cursor = cursor;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.common.service.BlobUploadPipeline;
+import com.likelion.innerjoin.common.storage.BlobLeaseRepository;
+import com.likelion.innerjoin.post.repository.PostImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 참조되지 않는 이미지 파일 정리
+ * <p>
+ * 같은 내용의 이미지는 여러 홍보글이 파일을 공유하므로, 요청 중에 파일을 지우면 방금 같은 파일을 재사용한 다른 요청의
+ * 홍보글이 깨진 이미지를 가리킬 수 있습니다. 그래서 요청은 blob_lease에 touchedAt만 남기고, 여기서 유예 시간이 지난 후보를 정리합니다.
+ * <p>
+ * 후보마다 lease 행을 FOR UPDATE로 잠근 채 참조 여부 확인, 파일 삭제, 행 삭제를 한 트랜잭션에서 합니다.
+ * 재사용하는 요청은 파일 존재 확인 전에 lease를 갱신하므로, 정리 중이면 커밋될 때까지 기다렸다가 파일이 없는 것을 보고 다시 업로드하고,
+ * 먼저 갱신했으면 touchedAt이 유예 시간 안이라 여기서 건너뜁니다.
+ * (유예 시간은 업로드부터 홍보글 저장 커밋까지 걸리는 시간보다 충분히 길어야 함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostImageSweeper {
+    private static final int BATCH_SIZE = 100;
+
+    private final BlobLeaseRepository blobLeaseRepository;
+    private final PostImageRepository postImageRepository;
+    private final BlobUploadPipeline blobUploadPipeline;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${blob.sweep-grace:1h}")
+    private Duration grace;
+
+    @Scheduled(cron = "${blob.sweep-cron:0 30 * * * *}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(grace);
+        int deleted = 0;
+        List<String> urls;
+        do {
+            urls = blobLeaseRepository.findExpiredUrls(cutoff, PageRequest.of(0, BATCH_SIZE));
+            for (String url : urls) {
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> sweepOne(url, cutoff)))) {
+                        deleted++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("이미지 파일 정리 실패: " + url, e);
+                    return; // 같은 후보가 다시 조회되므로 다음 주기에 재시도
+                }
+            }
+        } while (urls.size() == BATCH_SIZE);
+
+        if (deleted > 0) {
+            log.info("참조되지 않는 이미지 파일 정리: " + deleted + "건");
+        }
+    }
+
+    // lease 행을 잠근 채로 확인/삭제 (파일을 지웠으면 true)
+    private boolean sweepOne(String url, LocalDateTime cutoff) {
+        return blobLeaseRepository.findExpiredForUpdate(url, cutoff)
+                .map(lease -> {
+                    boolean unreferenced = !postImageRepository.existsByImageUrl(lease.getUrl());
+                    if (unreferenced) {
+                        blobUploadPipeline.deleteAll(Stream.of(lease.getUrl(), lease.getThumbnailUrl(), lease.getCardUrl())
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .collect(Collectors.toList()));
+                    }
+                    blobLeaseRepository.delete(lease);
+                    return unreferenced;
+                })
+                .orElse(false);
+    }
+}
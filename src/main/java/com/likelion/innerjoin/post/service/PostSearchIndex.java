@@ -0,0 +1,247 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.event.PostChangedEvent;
+import com.likelion.innerjoin.post.model.entity.Post;
+import com.likelion.innerjoin.post.model.entity.RecruitmentType;
+import com.likelion.innerjoin.post.repository.PostRepository;
+import com.likelion.innerjoin.post.util.NgramTokenizer;
+import com.likelion.innerjoin.user.event.ClubChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 홍보글 검색용 메모리 역색인
+ * <p>
+ * 동아리 이름, 제목, 본문을 n-gram으로 색인하고 BM25 점수로 순위를 매깁니다.
+ * 애플리케이션 시작 시 전체를 색인하고, 이후에는 홍보글/동아리 변경 이벤트로 해당 문서만 다시 색인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostRepository postRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final long[] totalLengths = new long[Field.values().length];
+
+    public enum Field {
+        CLUB_NAME(3.0), TITLE(2.0), CONTENT(1.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 검색
+     * @param query 검색어 (동아리 이름, 제목, 본문 대상, null 가능)
+     * @param clubName 동아리 이름 부분 일치 필터 (null 가능)
+     * @param categoryId 카테고리 필터 (null 가능)
+     * @param recruitmentType 모집 유형 필터 (null 가능)
+     * @param isRecruiting 모집중 여부 필터 (null 가능)
+     * @param now 모집중 여부 판단 기준 시각
+     * @return 점수 내림차순으로 정렬된 홍보글 id 리스트
+     */
+    public List<Long> search(String query, String clubName, Long categoryId, RecruitmentType recruitmentType,
+                             Boolean isRecruiting, LocalDateTime now) {
+        Set<String> queryTokens = NgramTokenizer.queryTokens(query);
+        Set<String> clubNameTokens = NgramTokenizer.queryTokens(clubName);
+        String normalizedClubName = NgramTokenizer.normalize(clubName);
+
+        lock.readLock().lock();
+        try {
+            Set<String> candidateTokens = new HashSet<>(queryTokens);
+            candidateTokens.addAll(clubNameTokens);
+            Collection<Long> candidates = candidateTokens.isEmpty() ? documents.keySet() : intersect(candidateTokens);
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long postId : candidates) {
+                Document document = documents.get(postId);
+                if (!normalizedClubName.isEmpty() && !document.clubName.contains(normalizedClubName)) {
+                    continue;
+                }
+                if (categoryId != null && !categoryId.equals(document.categoryId)) {
+                    continue;
+                }
+                if (recruitmentType != null && recruitmentType != document.recruitmentType) {
+                    continue;
+                }
+                if (isRecruiting != null && (document.endTime == null || isRecruiting == document.endTime.isBefore(now))) {
+                    continue;
+                }
+                scores.put(postId, queryTokens.isEmpty() ? 0.0 : score(document, queryTokens));
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Post> posts = postRepository.findAllWithClub();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            Arrays.fill(totalLengths, 0);
+            posts.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("홍보글 검색 색인 완료: " + posts.size() + "건");
+    }
+
+    // 피드 캐시보다 먼저 색인이 갱신되어야 캐시에 이전 검색 결과가 다시 담기지 않는다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Optional<Post> post = postRepository.findWithClubById(event.getPostId());
+        lock.writeLock().lock();
+        try {
+            remove(event.getPostId());
+            post.ifPresent(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClubChanged(ClubChangedEvent event) {
+        List<Post> posts = postRepository.findByClubId(event.getClubId());
+        lock.writeLock().lock();
+        try {
+            for (Post post : posts) {
+                remove(post.getId());
+                add(post);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Collection<Long> intersect(Set<String> tokens) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String token : tokens) {
+            Set<Long> list = postings.get(token);
+            if (list == null) {
+                return Collections.emptyList();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<Long> result = new ArrayList<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    // BM25F: 필드별 가중치와 길이 정규화를 적용한 tf를 합산한 뒤 BM25 포화 함수를 적용
+    private double score(Document document, Set<String> tokens) {
+        int documentCount = documents.size();
+        double score = 0;
+        for (String token : tokens) {
+            int[] termFrequency = document.termFrequencies.get(token);
+            if (termFrequency == null) {
+                continue;
+            }
+            double weightedTf = 0;
+            for (Field field : Field.values()) {
+                int i = field.ordinal();
+                if (termFrequency[i] == 0) {
+                    continue;
+                }
+                double averageLength = Math.max(1.0, (double) totalLengths[i] / documentCount);
+                weightedTf += field.weight * termFrequency[i] / (1 - B + B * document.lengths[i] / averageLength);
+            }
+            int documentFrequency = postings.get(token).size();
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            score += idf * weightedTf / (K1 + weightedTf);
+        }
+        return score;
+    }
+
+    private void add(Post post) {
+        Document document = new Document(post);
+        documents.put(document.postId, document);
+        for (int i = 0; i < totalLengths.length; i++) {
+            totalLengths[i] += document.lengths[i];
+        }
+        for (String token : document.termFrequencies.keySet()) {
+            postings.computeIfAbsent(token, t -> new HashSet<>()).add(document.postId);
+        }
+    }
+
+    private void remove(Long postId) {
+        Document document = documents.remove(postId);
+        if (document == null) {
+            return;
+        }
+        for (int i = 0; i < totalLengths.length; i++) {
+            totalLengths[i] -= document.lengths[i];
+        }
+        for (String token : document.termFrequencies.keySet()) {
+            Set<Long> list = postings.get(token);
+            list.remove(postId);
+            if (list.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private static class Document {
+        private final Long postId;
+        private final Long categoryId;
+        private final RecruitmentType recruitmentType;
+        private final LocalDateTime endTime;
+        private final String clubName;
+        private final int[] lengths = new int[Field.values().length];
+        private final Map<String, int[]> termFrequencies = new HashMap<>();
+
+        private Document(Post post) {
+            this.postId = post.getId();
+            this.categoryId = post.getClub().getCategory() == null ? null : post.getClub().getCategory().getId();
+            this.recruitmentType = post.getRecruitmentType();
+            this.endTime = post.getEndTime();
+            this.clubName = NgramTokenizer.normalize(post.getClub().getName());
+
+            String[] texts = {post.getClub().getName(), post.getTitle(), post.getContent()};
+            for (Field field : Field.values()) {
+                int i = field.ordinal();
+                List<String> tokens = NgramTokenizer.indexTokens(texts[i]);
+                lengths[i] = tokens.size();
+                for (String token : tokens) {
+                    termFrequencies.computeIfAbsent(token, t -> new int[Field.values().length])[i]++;
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package com.likelion.innerjoin.post.service;
 
-import com.likelion.innerjoin.common.service.BlobService;
+import com.likelion.innerjoin.common.image.ImageTooLargeException;
+import com.likelion.innerjoin.common.image.StoredImage;
+import com.likelion.innerjoin.common.image.UnsupportedImageException;
+import com.likelion.innerjoin.common.service.BlobUploadPipeline;
+import com.likelion.innerjoin.common.storage.BlobLeaseRepository;
+import com.likelion.innerjoin.common.util.ResourceVersion;
+import com.likelion.innerjoin.post.event.PostChangedEvent;
 import com.likelion.innerjoin.post.exception.*;
+import com.likelion.innerjoin.post.model.dto.request.ApplicationSearchCondition;
 import com.likelion.innerjoin.post.model.dto.request.PostModifyRequestDTO;
 import com.likelion.innerjoin.post.model.dto.response.PostDetailResponseDTO;
 import com.likelion.innerjoin.post.model.dto.request.PostCreateRequestDTO;
@@ -9,29 +16,40 @@ import com.likelion.innerjoin.post.model.dto.request.RecruitingRequestDTO;
 import com.likelion.innerjoin.post.model.dto.response.ApplicationListDto;
 import com.likelion.innerjoin.post.model.dto.response.PostCreateResponseDTO;
 import com.likelion.innerjoin.post.model.dto.response.PostListResponseDTO;
+import com.likelion.innerjoin.post.model.dto.response.PostPageResponseDTO;
 import com.likelion.innerjoin.post.model.entity.*;
-import com.likelion.innerjoin.post.model.mapper.ApplicationMapper;
+import com.likelion.innerjoin.post.repository.ApplicationRepository;
 import com.likelion.innerjoin.post.repository.FormRepository;
 import com.likelion.innerjoin.post.repository.PostImageRepository;
 import com.likelion.innerjoin.post.repository.PostRepository;
 import com.likelion.innerjoin.post.repository.RecruitingRepository;
-import com.likelion.innerjoin.user.model.entity.Club;
-import com.likelion.innerjoin.user.model.entity.User;
+import com.likelion.innerjoin.post.util.DeadlineCursor;
+import com.likelion.innerjoin.post.util.OffsetCursor;
+import com.likelion.innerjoin.post.util.PostCursor;
+import com.likelion.innerjoin.user.repository.ClubRepository;
+import com.likelion.innerjoin.user.util.SessionUser;
 import com.likelion.innerjoin.user.util.SessionVerifier;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.servlet.http.HttpSession;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.awt.*;
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,67 +60,200 @@ public class PostService {
     private final PostImageRepository postImageRepository;
     private final FormRepository formRepository;
     private final RecruitingRepository recruitingRepository;
-    private final BlobService blobService;
+    private final BlobUploadPipeline blobUploadPipeline;
+    private final TransactionTemplate transactionTemplate;
     private final SessionVerifier sessionVerifier;
-    private final ApplicationMapper applicationMapper;
+    private final ClubRepository clubRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationCsvExporter applicationCsvExporter;
+    private final PostFeedCache postFeedCache;
+    private final PostSearchIndex postSearchIndex;
+    private final OpenPostIndex openPostIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlobLeaseRepository blobLeaseRepository;
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
-    public List<PostListResponseDTO> getAllPosts(String clubName, Long categoryId, String recruitmentType, Boolean isRecruiting) {
-        List<Post> posts;
 
-        if ((clubName == null || clubName.isEmpty()) && categoryId == null && (recruitmentType == null || recruitmentType.isEmpty()) && isRecruiting == null) {
-            posts = postRepository.findAll(); // 전체 조회
-        } else {
-            posts = postRepository.findAll((root, query, criteriaBuilder) -> {
-                List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
+    /**
+     * 홍보글 리스트 조회
+     * 검색어(q)나 동아리 이름이 있으면 검색 색인에서 순위순으로, 없으면 최신순 keyset 페이지네이션으로 조회한다.
+     * @param q 검색어 (동아리 이름, 제목, 본문 대상)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 홍보글 페이지
+     */
+    public PostPageResponseDTO getAllPosts(String q, String clubName, Long categoryId, String recruitmentType, Boolean isRecruiting, String cursor, Integer size) {
+        // 모집 유형 필터
+        RecruitmentType type = null;
+        if (recruitmentType != null && !recruitmentType.isEmpty()) {
+            try {
+                type = RecruitmentType.valueOf(recruitmentType);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRecruitmentTypeException("Invalid recruitment type: " + recruitmentType);
+            }
+        }
+        RecruitmentType typeFilter = type;
+        // 모집중 여부와 dDay를 같은 시각 기준으로 계산
+        LocalDateTime now = LocalDateTime.now();
 
-                // 동아리 이름 필터
-                if (clubName != null && !clubName.isEmpty()) {
-                    predicates.add(criteriaBuilder.like(root.get("club").get("name"), "%" + clubName + "%"));
-                }
+        boolean isSearch = (q != null && !q.isBlank()) || (clubName != null && !clubName.isBlank());
+        PostPageResponseDTO page = postFeedCache.get(q, clubName, categoryId, recruitmentType, isRecruiting, cursor, size,
+                () -> isSearch
+                        ? searchPostPage(q, clubName, categoryId, typeFilter, isRecruiting, now, cursor, size)
+                        : findPostPage(toSpecification(categoryId, typeFilter, isRecruiting, now), cursor, size));
 
-                // 카테고리 ID 필터
-                if (categoryId != null) {
-                    predicates.add(criteriaBuilder.equal(root.get("club").get("category").get("id"), categoryId));
-                }
+        // 검색 결과가 없을 때 예외 처리 (첫 페이지 기준)
+        if (cursor == null && page.getPosts().isEmpty()) {
+            throw new PostNotFoundException("No posts found for the given criteria.");
+        }
 
-                // 모집 유형 필터
-                if (recruitmentType != null && !recruitmentType.isEmpty()) {
-                    try {
-                        RecruitmentType type = RecruitmentType.valueOf(recruitmentType);
-                        predicates.add(criteriaBuilder.equal(root.get("recruitmentType"), type));
-                    } catch (IllegalArgumentException e) {
-                        throw new InvalidRecruitmentTypeException("Invalid recruitment type: " + recruitmentType);
-                    }
-                }
+        return withDDay(page, now);
+    }
 
-                // endTime 필터 (isRecruiting이 true: 지원 가능한 게시물, false: 마감된 게시물)
-                if (isRecruiting != null) {
-                    if (isRecruiting) {
-                        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("endTime"), criteriaBuilder.currentTimestamp()));
-                    } else {
-                        predicates.add(criteriaBuilder.lessThan(root.get("endTime"), criteriaBuilder.currentTimestamp()));
-                    }
+    private Specification<Post> toSpecification(Long categoryId, RecruitmentType recruitmentType, Boolean isRecruiting, LocalDateTime now) {
+        if (categoryId == null && recruitmentType == null && isRecruiting == null) {
+            return null;
+        }
+
+        return (root, query, criteriaBuilder) -> {
+            List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
+
+            // 카테고리 ID 필터
+            if (categoryId != null) {
+                predicates.add(criteriaBuilder.equal(root.get("club").get("category").get("id"), categoryId));
+            }
+
+            // 모집 유형 필터
+            if (recruitmentType != null) {
+                predicates.add(criteriaBuilder.equal(root.get("recruitmentType"), recruitmentType));
+            }
+
+            // endTime 필터 (isRecruiting이 true: 지원 가능한 게시물, false: 마감된 게시물)
+            if (isRecruiting != null) {
+                if (isRecruiting) {
+                    predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("endTime"), now));
+                } else {
+                    predicates.add(criteriaBuilder.lessThan(root.get("endTime"), now));
                 }
+            }
 
-                return criteriaBuilder.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-            });
-        }
+            return criteriaBuilder.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
+        };
+    }
 
-        // 검색 결과가 없을 때 예외 처리
-        if (posts == null || posts.isEmpty()) {
-            throw new PostNotFoundException("No posts found for the given criteria.");
+    /**
+     * 검색 색인에서 순위순으로 size개 조회 (커서는 순위상의 위치)
+     */
+    private PostPageResponseDTO searchPostPage(String q, String clubName, Long categoryId, RecruitmentType recruitmentType,
+                                               Boolean isRecruiting, LocalDateTime now, String cursor, Integer size) {
+        int pageSize = toPageSize(size);
+        int offset = OffsetCursor.decode(cursor);
+
+        List<Long> postIds = postSearchIndex.search(q, clubName, categoryId, recruitmentType, isRecruiting, now);
+        List<Long> pageIds = postIds.subList(Math.min(offset, postIds.size()), Math.min(offset + pageSize, postIds.size()));
+
+        Map<Long, Post> postMap = postRepository.findByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        List<Post> posts = pageIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return PostPageResponseDTO.builder()
+                .posts(toPostResponseDTOList(posts))
+                .nextCursor(offset + pageSize < postIds.size() ? OffsetCursor.encode(offset + pageSize) : null)
+                .build();
+    }
+
+    private int toPageSize(Integer size) {
+        return (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 검색 조건에 맞는 홍보글을 (createdAt, postId) 내림차순으로 size개 조회
+     * size + 1개를 조회해서 다음 페이지 존재 여부를 판단한다.
+     */
+    private PostPageResponseDTO findPostPage(Specification<Post> spec, String cursor, Integer size) {
+        int pageSize = toPageSize(size);
+
+        List<Post> posts = postRepository.findFeedPage(spec, PostCursor.decode(cursor), pageSize + 1);
+
+        String nextCursor = null;
+        if (posts.size() > pageSize) {
+            posts = posts.subList(0, pageSize);
+            Post last = posts.get(pageSize - 1);
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getId()).encode();
         }
 
-        return posts.stream()
-                .map(this::toPostResponseDTO)
-                .collect(Collectors.toList());
+        return PostPageResponseDTO.builder()
+                .posts(toPostResponseDTOList(posts))
+                .nextCursor(nextCursor)
+                .build();
     }
 
 
-    private int calculateDDay(LocalDateTime endTime) {
+    /**
+     * 마감 임박순 홍보글 리스트 조회 (모집중인 홍보글 전체)
+     * 모집중인 홍보글 마감 색인에서 (endTime, postId) 오름차순으로 size개를 꺼낸다. 결과가 없으면 빈 리스트를 반환한다.
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 홍보글 페이지
+     */
+    public PostPageResponseDTO getClosingSoonPosts(String cursor, Integer size) {
+        return getClosingPosts(LocalDateTime.now(), null, cursor, size);
+    }
+
+    /**
+     * 오늘 마감되는 홍보글 리스트 조회 (아직 마감 전인 것만, 마감 임박순)
+     */
+    public PostPageResponseDTO getClosingTodayPosts(String cursor, Integer size) {
         LocalDateTime now = LocalDateTime.now();
+        return getClosingPosts(now, now.toLocalDate().plusDays(1).atStartOfDay(), cursor, size);
+    }
 
+    /**
+     * @param until 이 시각 전에 마감되는 홍보글만 (null이면 제한 없음)
+     */
+    private PostPageResponseDTO getClosingPosts(LocalDateTime now, LocalDateTime until, String cursor, Integer size) {
+        int pageSize = toPageSize(size);
+
+        List<OpenPostIndex.Entry> entries = openPostIndex.findOpen(now, until, DeadlineCursor.decode(cursor), pageSize + 1);
+        String nextCursor = null;
+        if (entries.size() > pageSize) {
+            entries = entries.subList(0, pageSize);
+            nextCursor = entries.get(pageSize - 1).toCursor().encode();
+        }
+
+        List<Long> pageIds = entries.stream().map(OpenPostIndex.Entry::getPostId).collect(Collectors.toList());
+        Map<Long, Post> postMap = postRepository.findByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        List<Post> posts = pageIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return withDDay(PostPageResponseDTO.builder()
+                .posts(toPostResponseDTOList(posts))
+                .nextCursor(nextCursor)
+                .build(), now);
+    }
+
+    /**
+     * 응답 시점 기준으로 dDay를 채운 페이지 복사본 생성 (캐시된 DTO는 변경하지 않는다)
+     * @param now 요청마다 한 번 읽은 현재 시각 (모든 홍보글에 같은 기준을 적용)
+     */
+    private PostPageResponseDTO withDDay(PostPageResponseDTO page, LocalDateTime now) {
+        return PostPageResponseDTO.builder()
+                .posts(page.getPosts().stream()
+                        .map(post -> post.toBuilder().dDay(calculateDDay(post.getEndTime(), now)).build())
+                        .collect(Collectors.toList()))
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    private int calculateDDay(LocalDateTime endTime, LocalDateTime now) {
         if (endTime.isBefore(now)) {
             return -1; // endTime이 현재 시각 이전이면 -1
         } else if (endTime.toLocalDate().isEqual(now.toLocalDate())) {
@@ -112,16 +263,33 @@ public class PostService {
         }
     }
 
-    // Post 엔티티를 PostResponseDTO로 변환
-    private PostListResponseDTO toPostResponseDTO(Post post) {
-        // PostImage 리스트를 PostImageDTO로 변환
-        List<PostListResponseDTO.PostImageDTO> imageDTOs = post.getImageList().stream()
-                .map(image -> new PostListResponseDTO.PostImageDTO(image.getId(), image.getImageUrl()))
-                .collect(Collectors.toList());
+    /**
+     * Post 리스트를 PostListResponseDTO 리스트로 변환
+     * club, category는 조회 시 fetch join 되어 있고, 이미지는 IN 쿼리 한 번으로 가져온다.
+     * @param posts club, category가 함께 조회된 홍보글 리스트
+     * @return 홍보글 DTO 리스트
+     */
+    private List<PostListResponseDTO> toPostResponseDTOList(List<Post> posts) {
+        List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+
+        Map<Long, List<PostListResponseDTO.PostImageDTO>> imageMap = postImageRepository.findOrderedByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        image -> image.getPost().getId(),
+                        Collectors.mapping(
+                                image -> new PostListResponseDTO.PostImageDTO(
+                                        image.getId(),
+                                        image.getImageUrl(),
+                                        Objects.requireNonNullElse(image.getThumbnailUrl(), image.getImageUrl()),
+                                        Objects.requireNonNullElse(image.getCardUrl(), image.getImageUrl())),
+                                Collectors.toList())));
 
-        // D-Day 계산
-        int dDay = calculateDDay(post.getEndTime());
+        return posts.stream()
+                .map(post -> toPostResponseDTO(post, imageMap.getOrDefault(post.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
 
+    // Post 엔티티를 PostResponseDTO로 변환 (dDay는 응답 시점에 withDDay에서 계산)
+    private PostListResponseDTO toPostResponseDTO(Post post, List<PostListResponseDTO.PostImageDTO> imageDTOs) {
         return PostListResponseDTO.builder()
                 .postId(post.getId())
                 .clubId(post.getClub().getId())
@@ -134,7 +302,6 @@ public class PostService {
                 .recruitmentCount(post.getRecruitmentCount())
                 .recruitmentStatus(post.getRecruitmentStatus().toString())
                 .recruitmentType(post.getRecruitmentType().toString())
-                .dDay(dDay) // D-Day 추가
                 .categoryName(post.getClub().getCategory().getCategoryName()) // Category Name 추가
                 .image(imageDTOs)
                 .build();
@@ -142,22 +309,44 @@ public class PostService {
 
 
     @Transactional
-    public List<PostListResponseDTO> getMyPosts(HttpSession session) {
+    public PostPageResponseDTO getMyPosts(HttpSession session, String cursor, Integer size) {
         // 현재 로그인한 유저가 Club인지 확인
-        Club club = checkClub(session);
+        SessionUser club = checkClub(session);
 
         // Club ID로 홍보글 필터링
-        List<Post> posts = postRepository.findByClubId(club.getId());
+        Long clubId = club.getId();
+        PostPageResponseDTO page = findPostPage(
+                (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("club").get("id"), clubId),
+                cursor,
+                size
+        );
 
         // 검색 결과가 없을 경우 예외 처리
-        if (posts.isEmpty()) {
+        if (cursor == null && page.getPosts().isEmpty()) {
             throw new PostNotFoundException("현재 Club에 해당하는 홍보글이 없습니다.");
         }
 
-        // Post 엔티티를 DTO로 변환
-        return posts.stream()
-                .map(this::toPostResponseDTO)
-                .collect(Collectors.toList());
+        return withDDay(page, LocalDateTime.now());
+    }
+
+
+    /**
+     * 홍보글 디테일 조회의 조건부 GET 검증자 (디테일 본문은 조회하지 않는다)
+     * 홍보글, 동아리, 카테고리, 직무, 이미지의 modifiedAt과 개수로 만들고,
+     * dDay는 날짜가 바뀔 때와 마감 시각이 지날 때 바뀌므로 가장 최근에 바뀐 시각도 넣는다.
+     */
+    public ResourceVersion getPostVersion(Long postId) {
+        Object[] row = postRepository.findDetailVersion(postId).stream()
+                .findFirst()
+                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime endTime = (LocalDateTime) row[3];
+        LocalDateTime dDayChangedAt = now.toLocalDate().atStartOfDay();
+        if (endTime != null && endTime.isBefore(now) && endTime.isAfter(dDayChangedAt)) {
+            dDayChangedAt = endTime;
+        }
+        return ResourceVersion.weak(row[0], row[1], row[2], row[4], row[5], row[6], row[7], dDayChangedAt);
     }
 
 
@@ -181,7 +370,7 @@ public class PostService {
         }
 
         // D-Day 계산
-        int dDay = calculateDDay(post.getEndTime());
+        int dDay = calculateDDay(post.getEndTime(), LocalDateTime.now());
 
         // PostResponseDTO로 변환하여 반환
         return PostDetailResponseDTO.builder()
@@ -199,7 +388,11 @@ public class PostService {
                 .dDay(dDay)
                 .categoryName(post.getClub().getCategory().getCategoryName())
                 .image(post.getImageList().stream()
-                        .map(image -> new PostDetailResponseDTO.PostImageDTO(image.getId(), image.getImageUrl()))
+                        .map(image -> new PostDetailResponseDTO.PostImageDTO(
+                                image.getId(),
+                                image.getImageUrl(),
+                                Objects.requireNonNullElse(image.getThumbnailUrl(), image.getImageUrl()),
+                                Objects.requireNonNullElse(image.getCardUrl(), image.getImageUrl())))
                         .collect(Collectors.toList()))
                 .recruitingList(recruitingDTOList)
                 .build();
@@ -207,14 +400,20 @@ public class PostService {
 
 
     // 홍보글 작성
-    @Transactional
+    // 이미지는 트랜잭션 밖에서 먼저 업로드하고, DB 저장이 실패해서 참조되지 않은 파일은 PostImageSweeper가 정리
+    // 이 요청은 open-in-view에서 빠져 있어서 업로드 전 세션 확인이 끝나면 커넥션을 반납하고, 업로드 동안에는 커넥션을 잡지 않음
     public PostCreateResponseDTO createPost(PostCreateRequestDTO postCreateRequestDTO, List<MultipartFile> images, HttpSession session) {
 
-        Club club = checkClub(session);
+        SessionUser club = checkClub(session);
+        List<StoredImage> storedImages = uploadImages(images);
+
+        return transactionTemplate.execute(status -> savePost(postCreateRequestDTO, storedImages, club));
+    }
 
+    private PostCreateResponseDTO savePost(PostCreateRequestDTO postCreateRequestDTO, List<StoredImage> storedImages, SessionUser club) {
         // Post 엔티티 생성 및 저장
         Post post = Post.builder()
-                .club(club)
+                .club(clubRepository.getReferenceById(club.getId()))
                 .title(postCreateRequestDTO.getTitle())
                 .startTime(postCreateRequestDTO.getStartTime())
                 .endTime(postCreateRequestDTO.getEndTime())
@@ -247,39 +446,33 @@ public class PostService {
             }
         }
 
-        // 이미지 처리 및 저장
-        if (images != null && !images.isEmpty()) {
-            for (MultipartFile image : images) {
-                try {
-                    String imageUrl = blobService.storeFile(image.getOriginalFilename(), image.getInputStream(), image.getSize());
-                    PostImage postImage = PostImage.builder()
-                            .post(post)
-                            .imageUrl(imageUrl)
-                            .build();
-                    postImageRepository.save(postImage);
-                } catch (IOException e) {
-                    throw new ImageProcessingException("Error processing image: " + e.getMessage(), e);
-                }
-            }
-        }
+        // 이미지 저장
+        savePostImages(post, storedImages, 0);
 
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
         return new PostCreateResponseDTO(post.getId());
     }
 
 
     // 홍보글 수정
-    @Transactional
+    // 새 이미지는 트랜잭션 밖에서 먼저 업로드하고, 빠진 이미지 파일은 PostImageSweeper가 정리
     public PostCreateResponseDTO updatePost(Long postId, PostModifyRequestDTO postModifyRequestDTO, List<MultipartFile> images, HttpSession session) {
 
+        // post의 club_id가 유저의 club_id와 일치하는지 확인 (업로드 전에 권한 확인, 조회가 끝나면 커넥션 반납)
+        findOwnedPost(postId, checkClub(session), "홍보글의 club_id가 현재 유저의 club_id와 일치하지 않습니다.");
+        List<StoredImage> storedImages = uploadImages(images);
+
+        transactionTemplate.executeWithoutResult(status -> modifyPost(postId, postModifyRequestDTO, storedImages));
+        return new PostCreateResponseDTO(postId);
+    }
+
+    // 홍보글 수정 (DB)
+    private void modifyPost(Long postId, PostModifyRequestDTO postModifyRequestDTO, List<StoredImage> storedImages) {
+
         // 기존 홍보글 조회
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
 
-        // post의 club_id가 유저의 club_id와 일치하는지 확인
-        if (!post.getClub().getId().equals(checkClub(session).getId())) {
-            throw new UnauthorizedException("홍보글의 club_id가 현재 유저의 club_id와 일치하지 않습니다.");
-        }
-
         // 수정된 내용으로 Post 엔티티 업데이트
         post.setTitle(postModifyRequestDTO.getTitle());
         post.setStartTime(LocalDateTime.parse(postModifyRequestDTO.getStartTime()));
@@ -290,74 +483,114 @@ public class PostService {
 
         postRepository.save(post);
 
-        // 기존 이미지 삭제
-        List<PostImage> existingImages = postImageRepository.findByPostId(postId);
-        for (PostImage image : existingImages) {
-            String imageUrl = image.getImageUrl();
-            String filename = imageUrl.substring(imageUrl.lastIndexOf('/') + 1); // URL에서 파일명 추출
-
-            try {
-                boolean deleted = blobService.deleteFile(filename); // Blob Storage에서 삭제
-                if (!deleted) {
-                    throw new ImageProcessingException("Blob Storage에서 이미지 삭제 실패: " + filename, null);
+        // 유지할 이미지와 삭제할 이미지 분류
+        List<PostImage> existingImages = postImageRepository.findOrderedByPostId(postId);
+        List<PostImage> keptImages = new ArrayList<>();
+        List<PostImage> removedImages = existingImages;
+        if (postModifyRequestDTO.getKeepImageIds() != null) {
+            Map<Long, PostImage> imageMap = existingImages.stream()
+                    .collect(Collectors.toMap(PostImage::getId, image -> image, (a, b) -> a, LinkedHashMap::new));
+            for (Long imageId : new LinkedHashSet<>(postModifyRequestDTO.getKeepImageIds())) {
+                PostImage image = imageMap.remove(imageId);
+                if (image == null) {
+                    throw new PostImageNotFoundException("홍보글에 해당 이미지가 없습니다. id: " + imageId);
                 }
-                postImageRepository.delete(image); // DB에서 삭제
-            } catch (Exception e) {
-                throw new ImageProcessingException("DB에서 이미지 삭제 중 에러 발생: " + imageUrl, e);
+                keptImages.add(image);
             }
+            removedImages = new ArrayList<>(imageMap.values());
         }
 
-        // 새로운 이미지 저장
-        if (images != null && !images.isEmpty()) {
-            for (MultipartFile image : images) {
-                try {
-                    String imageUrl = blobService.storeFile(image.getOriginalFilename(), image.getInputStream(), image.getSize());
-                    PostImage postImage = PostImage.builder()
-                            .post(post)
-                            .imageUrl(imageUrl)
-                            .build();
-                    postImageRepository.save(postImage);
-                } catch (IOException e) {
-                    throw new ImageProcessingException("Error processing image: " + e.getMessage(), e);
-                }
+        // 삭제할 이미지만 DB에서 삭제 (파일은 유예 시간 뒤에 정리)
+        postImageRepository.deleteAll(removedImages);
+        releaseImages(removedImages);
+
+        // 유지할 이미지는 순서가 바뀐 경우에만 갱신
+        int displayOrder = 0;
+        for (PostImage image : keptImages) {
+            if (!Objects.equals(image.getDisplayOrder(), displayOrder)) {
+                image.setDisplayOrder(displayOrder);
             }
+            displayOrder++;
         }
 
-        return new PostCreateResponseDTO(post.getId());
+        // 새로운 이미지 저장
+        savePostImages(post, storedImages, displayOrder);
+
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
     }
 
     // 홍보글 삭제
-    @Transactional
+    // DB에서 삭제하고, 이미지 파일은 다른 홍보글이 참조하지 않으면 PostImageSweeper가 정리
     public void deletePost(Long postId, HttpSession session) {
+        SessionUser club = checkClub(session);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = findOwnedPost(postId, club, "삭제할 권한이 없습니다.");
+
+            // 홍보글과 연관된 이미지 리스트 조회
+            List<PostImage> images = postImageRepository.findByPostId(postId);
+            postImageRepository.deleteAll(images);
+            releaseImages(images);
+
+            // 홍보글 삭제
+            postRepository.delete(post);
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
+        });
+    }
+
+    /**
+     * 홍보글에 대한 지원서를 답변까지 포함해서 CSV로 내보내기
+     * 권한 확인은 응답을 쓰기 전에 끝나고, 내용은 JDBC 커서로 읽으면서 바로 응답 스트림에 씁니다.
+     * 이 요청은 open-in-view에서 제외되어 있어서(OpenInViewConfig) 권한 확인에 쓴 커넥션은 조회가 끝나면 바로 반납되고,
+     * 스트리밍하는 동안에는 지원서를 읽는 커넥션 하나만 사용합니다.
+     * @param post_id 홍보글 아이디
+     * @param session 세션값
+     * @return CSV 응답 본문
+     */
+    public StreamingResponseBody exportApplications(Long post_id, HttpSession session) {
+        findOwnedPost(post_id, checkClub(session), "권한이 없습니다.");
+        return applicationCsvExporter.export(post_id);
+    }
+
+    private Post findOwnedPost(Long postId, SessionUser club, String message) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
-
-        // 유저의 Club과 게시글의 Club이 일치하는지 확인
-        if (!post.getClub().getId().equals(checkClub(session).getId())) {
-            throw new UnauthorizedException("삭제할 권한이 없습니다.");
+        if (!post.getClub().getId().equals(club.getId())) {
+            throw new UnauthorizedException(message);
         }
+        return post;
+    }
 
-        // 홍보글과 연관된 이미지 리스트 조회
-        List<PostImage> images = postImageRepository.findByPostId(postId);
-
-        // Blob Storage와 DB에서 이미지 삭제
-        for (PostImage image : images) {
-            String imageUrl = image.getImageUrl();
-            String filename = imageUrl.substring(imageUrl.lastIndexOf('/') + 1); // URL에서 파일명 추출
+    private List<StoredImage> uploadImages(List<MultipartFile> images) {
+        try {
+            return blobUploadPipeline.uploadImages(images);
+        } catch (ImageTooLargeException | UnsupportedImageException e) {
+            throw e; // 요청 오류(400)로 응답
+        } catch (RuntimeException e) {
+            throw new ImageProcessingException("Error processing image: " + e.getMessage(), e);
+        }
+    }
 
-            try {
-                boolean deleted = blobService.deleteFile(filename); // Blob Storage에서 삭제
-                if (!deleted) {
-                    throw new ImageProcessingException("Blob Storage에서 이미지 삭제 실패: " + filename, null);
-                }
-                postImageRepository.delete(image); // DB에서 삭제
-            } catch (Exception e) {
-                throw new ImageProcessingException("DB에서 이미지 삭제 중 에러 발생: " + imageUrl, e);
-            }
+    private void savePostImages(Post post, List<StoredImage> storedImages, int startOrder) {
+        int displayOrder = startOrder;
+        for (StoredImage storedImage : storedImages) {
+            postImageRepository.save(PostImage.builder()
+                    .post(post)
+                    .imageUrl(storedImage.getFullUrl())
+                    .thumbnailUrl(storedImage.getThumbnailUrl())
+                    .cardUrl(storedImage.getCardUrl())
+                    .displayOrder(displayOrder++)
+                    .build());
         }
+    }
 
-        // 홍보글 삭제
-        postRepository.delete(post);
+    // 같은 내용의 이미지는 파일을 공유하므로 요청 중에는 지우지 않고 정리 후보로만 등록
+    // (다른 요청이 방금 같은 파일을 재사용했을 수 있음, 참조 여부는 PostImageSweeper가 유예 시간 뒤에 확인)
+    private void releaseImages(List<PostImage> removedImages) {
+        for (PostImage image : removedImages) {
+            blobLeaseRepository.touch(new StoredImage(
+                    image.getThumbnailUrl(), image.getCardUrl(), image.getImageUrl(), false));
+        }
     }
 
 
@@ -376,28 +609,28 @@ public class PostService {
         // RecruitmentStatus 업데이트
         post.setRecruitmentStatus(status);
         postRepository.save(post); // 변경사항 저장
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
 
-    Club checkClub(HttpSession session) {
-        User user = sessionVerifier.verifySession(session);
-        if (!(user instanceof Club club)) {
+    SessionUser checkClub(HttpSession session) {
+        SessionUser user = sessionVerifier.verifySession(session);
+        if (!user.isClub()) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
-        return club;
+        return user;
     }
 
     /**
-     * 홍보글에 대한 모든 지원 조회
+     * 홍보글에 대한 지원 조회
+     * 지원자 목록은 projection 쿼리 한 번으로 가져오고, 페이지 조회시에만 count 쿼리를 추가로 실행합니다.
      * @param post_id 홍보글 아이디
+     * @param condition 필터, 정렬, 페이지 조건
      * @param session 세션값
      * @return 지원 리스트
      */
-    public ApplicationListDto getApplications(Long post_id, HttpSession session) {
-        User user = sessionVerifier.verifySession(session);
-        if(!(user instanceof Club club)) {
-            throw new UnauthorizedException("권한이 없습니다.");
-        }
+    public ApplicationListDto getApplications(Long post_id, ApplicationSearchCondition condition, HttpSession session) {
+        SessionUser club = checkClub(session);
 
         Post post = postRepository.findById(post_id)
                 .orElseThrow(() -> new PostNotFoundException("해당 post가 없습니다: " + post_id));
@@ -405,18 +638,12 @@ public class PostService {
             throw new UnauthorizedException("권한이 없습니다.");
         }
 
-        List<Application> applicationList = new ArrayList<>();
-        for(Recruiting recruiting : post.getRecruitingList()){
-            applicationList.addAll(recruiting.getApplication());
-        }
-
         ApplicationListDto applicationListDto = new ApplicationListDto();
         applicationListDto.setPostId(post.getId());
-        applicationListDto.setApplicationList(
-                applicationList.stream()
-                        .map(application -> applicationMapper.toApplicationDto(application, false))
-                        .collect(Collectors.toList())
-        );
+        applicationListDto.setApplicationList(applicationRepository.findApplicationDtos(post.getId(), condition));
+        if (condition.isPaged()) {
+            applicationListDto.setTotalCount(applicationRepository.countApplications(post.getId(), condition));
+        }
 
         return applicationListDto;
     }
@@ -0,0 +1,134 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.model.entity.Application;
+import com.likelion.innerjoin.post.model.entity.DecisionStage;
+import com.likelion.innerjoin.post.model.entity.ResultType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 직무별 통계 증감분 계산
+ * <p>
+ * 지원서의 변경 전/후 스냅샷이 각각 기여하는 metric 값을 빼서 증감분만 모읍니다.
+ * 새 지원서는 (null, 후), 재계산은 모든 지원서를 (null, 현재)로 더하면 됩니다.
+ * <p>
+ * metric 이름
+ * <ul>
+ *     <li>APPLICANTS: 지원자 수</li>
+ *     <li>FORM_RESULT:PASS, MEETING_RESULT:PENDING ...: 단계별 결과 수</li>
+ *     <li>FORM_SCORE_COUNT, FORM_SCORE_SUM: 점수가 입력된 지원서 수와 점수 합계</li>
+ *     <li>FORM_SCORE_BUCKET:10: 점수 구간(10~19)별 지원서 수</li>
+ * </ul>
+ * 스레드 안전하지 않으므로 트랜잭션마다 새로 만듭니다.
+ */
+public final class RecruitingStatDelta {
+    public static final String APPLICANTS = "APPLICANTS";
+    public static final int BUCKET_WIDTH = 10;
+
+    private static final String RESULT = "_RESULT:";
+    private static final String SCORE_COUNT = "_SCORE_COUNT";
+    private static final String SCORE_SUM = "_SCORE_SUM";
+    private static final String SCORE_BUCKET = "_SCORE_BUCKET:";
+
+    private final Map<Long, Map<String, Long>> deltas = new HashMap<>();
+
+    public static String resultMetric(DecisionStage stage, ResultType result) {
+        return stage.name() + RESULT + result.name();
+    }
+
+    public static String scoreCountMetric(DecisionStage stage) {
+        return stage.name() + SCORE_COUNT;
+    }
+
+    public static String scoreSumMetric(DecisionStage stage) {
+        return stage.name() + SCORE_SUM;
+    }
+
+    public static String scoreBucketPrefix(DecisionStage stage) {
+        return stage.name() + SCORE_BUCKET;
+    }
+
+    // 음수 점수도 아래쪽 구간으로 내림
+    public static int bucketOf(int score) {
+        return Math.floorDiv(score, BUCKET_WIDTH) * BUCKET_WIDTH;
+    }
+
+    /**
+     * @param before 변경 전 스냅샷 (새 지원서면 null)
+     * @param after 변경 후 스냅샷 (삭제면 null)
+     */
+    public RecruitingStatDelta add(Long recruitingId, Snapshot before, Snapshot after) {
+        if (before != null) {
+            before.contribute(deltas.computeIfAbsent(recruitingId, id -> new HashMap<>()), -1);
+        }
+        if (after != null) {
+            after.contribute(deltas.computeIfAbsent(recruitingId, id -> new HashMap<>()), 1);
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return getDeltas().isEmpty();
+    }
+
+    // 증감분이 0인 metric은 제외
+    public Map<Long, Map<String, Long>> getDeltas() {
+        Map<Long, Map<String, Long>> result = new HashMap<>();
+        deltas.forEach((recruitingId, metrics) -> {
+            Map<String, Long> changed = new HashMap<>();
+            metrics.forEach((metric, value) -> {
+                if (value != 0) {
+                    changed.put(metric, value);
+                }
+            });
+            if (!changed.isEmpty()) {
+                result.put(recruitingId, Collections.unmodifiableMap(changed));
+            }
+        });
+        return result;
+    }
+
+    // 재계산용: 증감분을 그대로 값으로 사용하고, 지원서가 없는 직무도 포함
+    public Map<String, Long> getValues(Long recruitingId) {
+        Map<String, Long> values = getDeltas().get(recruitingId);
+        return values == null ? Map.of() : values;
+    }
+
+    /**
+     * 통계에 필요한 지원서 필드만 담은 불변 스냅샷
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Snapshot {
+        private final ResultType formResult;
+        private final Integer formScore;
+        private final ResultType meetingResult;
+        private final Integer meetingScore;
+
+        public static Snapshot of(Application application) {
+            return new Snapshot(application.getFormResult(), application.getFormScore(),
+                    application.getMeetingResult(), application.getMeetingScore());
+        }
+
+        private void contribute(Map<String, Long> metrics, int sign) {
+            metrics.merge(APPLICANTS, (long) sign, Long::sum);
+            contribute(metrics, sign, DecisionStage.FORM, formResult, formScore);
+            contribute(metrics, sign, DecisionStage.MEETING, meetingResult, meetingScore);
+        }
+
+        private void contribute(Map<String, Long> metrics, int sign, DecisionStage stage, ResultType result, Integer score) {
+            if (result != null) {
+                metrics.merge(resultMetric(stage, result), (long) sign, Long::sum);
+            }
+            if (score != null) {
+                metrics.merge(scoreCountMetric(stage), (long) sign, Long::sum);
+                metrics.merge(scoreSumMetric(stage), (long) sign * score, Long::sum);
+                metrics.merge(scoreBucketPrefix(stage) + bucketOf(score), (long) sign, Long::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.exception.PostNotFoundException;
+import com.likelion.innerjoin.post.exception.UnauthorizedException;
+import com.likelion.innerjoin.post.model.dto.response.MeetingTimeAvailabilityDTO;
+import com.likelion.innerjoin.post.model.dto.response.PostStatResponseDto;
+import com.likelion.innerjoin.post.model.dto.response.RecruitingStatResponseDto;
+import com.likelion.innerjoin.post.model.entity.*;
+import com.likelion.innerjoin.post.repository.ApplicationRepository;
+import com.likelion.innerjoin.post.repository.MeetingTimeRepository;
+import com.likelion.innerjoin.post.repository.PostRepository;
+import com.likelion.innerjoin.post.repository.RecruitingRepository;
+import com.likelion.innerjoin.post.repository.RecruitingStatRepository;
+import com.likelion.innerjoin.user.util.SessionUser;
+import com.likelion.innerjoin.user.util.SessionVerifier;
+import jakarta.servlet.http.HttpSession;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 직무별 모집 통계
+ * <p>
+ * 지원서를 바꾸는 트랜잭션이 record로 증감분을 같이 반영하므로, 조회는 지원자 수와 상관없이 통계 행과 면접 시간만 읽습니다.
+ * set-based UPDATE처럼 변경 전 값을 알 수 없는 경우에는 rebuild로 해당 직무만 다시 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecruitingStatService {
+    private final RecruitingStatRepository recruitingStatRepository;
+    private final ApplicationRepository applicationRepository;
+    private final RecruitingRepository recruitingRepository;
+    private final MeetingTimeRepository meetingTimeRepository;
+    private final PostRepository postRepository;
+    private final SessionVerifier sessionVerifier;
+
+    // 호출한 쪽의 트랜잭션에서 실행
+    public void record(RecruitingStatDelta delta) {
+        Map<Long, Map<String, Long>> deltas = delta.getDeltas();
+        if (!deltas.isEmpty()) {
+            recruitingStatRepository.increment(deltas);
+        }
+    }
+
+    public void record(Long recruitingId, RecruitingStatDelta.Snapshot before, RecruitingStatDelta.Snapshot after) {
+        record(new RecruitingStatDelta().add(recruitingId, before, after));
+    }
+
+    /**
+     * 직무 통계를 지원서에서 다시 계산 (지원자 수에 비례하므로 일괄 변경 후에만 사용)
+     */
+    public void rebuild(Collection<Long> recruitingIds) {
+        if (recruitingIds.isEmpty()) {
+            return;
+        }
+        RecruitingStatDelta delta = new RecruitingStatDelta();
+        for (Object[] row : applicationRepository.findStatSnapshots(recruitingIds)) {
+            delta.add((Long) row[0], null, new RecruitingStatDelta.Snapshot(
+                    (ResultType) row[1], (Integer) row[2], (ResultType) row[3], (Integer) row[4]));
+        }
+
+        Map<Long, Map<String, Long>> values = new HashMap<>();
+        for (Long recruitingId : recruitingIds) {
+            values.put(recruitingId, delta.getValues(recruitingId));
+        }
+        recruitingStatRepository.replace(values);
+    }
+
+    /**
+     * 통계 기능 추가 이전에 생긴 지원서 반영
+     * 통계가 없는 직무만 계산하므로 두 번째 실행부터는 거의 비용이 없습니다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Long> recruitingIds = recruitingStatRepository.findRecruitingIdsWithoutStat();
+        rebuild(recruitingIds);
+        log.info("직무 통계 초기 계산 완료: " + recruitingIds.size() + "건");
+    }
+
+    /**
+     * 홍보글의 직무별 통계 조회 (동아리용)
+     */
+    public PostStatResponseDto getPostStatistics(Long postId, HttpSession session) {
+        SessionUser club = checkClub(session);
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
+        if (!post.getClub().getId().equals(club.getId())) {
+            throw new UnauthorizedException("권한이 없습니다.");
+        }
+
+        List<Recruiting> recruitings = recruitingRepository.findByPostId(postId);
+        Map<Long, Map<String, Long>> stats = recruitings.isEmpty() ? Map.of()
+                : recruitingStatRepository.findByRecruitingIdIn(
+                                recruitings.stream().map(Recruiting::getId).collect(Collectors.toList())).stream()
+                        .collect(Collectors.groupingBy(stat -> stat.getId().getRecruitingId(),
+                                Collectors.toMap(stat -> stat.getId().getMetric(), RecruitingStat::getValue)));
+
+        List<RecruitingStatResponseDto> recruitingStats = new ArrayList<>();
+        long applicantCount = 0;
+        for (Recruiting recruiting : recruitings) {
+            RecruitingStatResponseDto recruitingStat = toResponseDto(
+                    recruiting, stats.getOrDefault(recruiting.getId(), Map.of()),
+                    meetingTimeRepository.findAvailabilityByRecruitingId(recruiting.getId()));
+            applicantCount += recruitingStat.getApplicantCount();
+            recruitingStats.add(recruitingStat);
+        }
+        return new PostStatResponseDto(postId, applicantCount, recruitingStats);
+    }
+
+    private RecruitingStatResponseDto toResponseDto(Recruiting recruiting, Map<String, Long> metrics,
+                                                    List<MeetingTimeAvailabilityDTO> meetingTimes) {
+        return new RecruitingStatResponseDto(
+                recruiting.getId(),
+                recruiting.getJobTitle(),
+                metrics.getOrDefault(RecruitingStatDelta.APPLICANTS, 0L),
+                resultCounts(metrics, DecisionStage.FORM),
+                resultCounts(metrics, DecisionStage.MEETING),
+                scoreStat(metrics, DecisionStage.FORM),
+                scoreStat(metrics, DecisionStage.MEETING),
+                slotStat(meetingTimes));
+    }
+
+    private Map<ResultType, Long> resultCounts(Map<String, Long> metrics, DecisionStage stage) {
+        Map<ResultType, Long> counts = new EnumMap<>(ResultType.class);
+        for (ResultType result : ResultType.values()) {
+            counts.put(result, metrics.getOrDefault(RecruitingStatDelta.resultMetric(stage, result), 0L));
+        }
+        return counts;
+    }
+
+    private RecruitingStatResponseDto.ScoreStatDto scoreStat(Map<String, Long> metrics, DecisionStage stage) {
+        long scoredCount = metrics.getOrDefault(RecruitingStatDelta.scoreCountMetric(stage), 0L);
+        long scoreSum = metrics.getOrDefault(RecruitingStatDelta.scoreSumMetric(stage), 0L);
+
+        String prefix = RecruitingStatDelta.scoreBucketPrefix(stage);
+        List<RecruitingStatResponseDto.ScoreBucketDto> histogram = metrics.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix) && entry.getValue() > 0)
+                .map(entry -> {
+                    int from = Integer.parseInt(entry.getKey().substring(prefix.length()));
+                    return new RecruitingStatResponseDto.ScoreBucketDto(
+                            from, from + RecruitingStatDelta.BUCKET_WIDTH - 1, entry.getValue());
+                })
+                .sorted(Comparator.comparingInt(RecruitingStatResponseDto.ScoreBucketDto::getFrom))
+                .collect(Collectors.toList());
+
+        return new RecruitingStatResponseDto.ScoreStatDto(
+                scoredCount, scoredCount == 0 ? null : (double) scoreSum / scoredCount, histogram);
+    }
+
+    private RecruitingStatResponseDto.SlotStatDto slotStat(List<MeetingTimeAvailabilityDTO> meetingTimes) {
+        long allowedNum = 0;
+        long bookedNum = 0;
+        for (MeetingTimeAvailabilityDTO meetingTime : meetingTimes) {
+            allowedNum += meetingTime.getAllowedNum();
+            bookedNum += meetingTime.getAllowedNum() - meetingTime.getRemainingNum();
+        }
+        return new RecruitingStatResponseDto.SlotStatDto(
+                allowedNum, bookedNum, allowedNum == 0 ? null : (double) bookedNum / allowedNum, meetingTimes);
+    }
+
+    SessionUser checkClub(HttpSession session) {
+        SessionUser user = sessionVerifier.verifySession(session);
+        if (!user.isClub()) {
+            throw new UnauthorizedException("권한이 없습니다.");
+        }
+        return user;
+    }
+}
@@ -0,0 +1,178 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.common.scheduling.HashedTimerWheel;
+import com.likelion.innerjoin.post.event.PostChangedEvent;
+import com.likelion.innerjoin.post.model.entity.RecruitmentStatus;
+import com.likelion.innerjoin.post.model.entity.RecruitmentType;
+import com.likelion.innerjoin.post.repository.PostRepository;
+import com.likelion.innerjoin.post.repository.RecruitingRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모집 일정 스케줄러
+ * <p>
+ * 지원 마감, 면접 시간 예약 시작/마감, 예약 마감 알림 시각을 타이머 휠에 올려 두고 시각이 되면 RecruitmentLifecycleService를 호출합니다.
+ * 휠에는 horizon 안의 일정만 올리고, 시작할 때와 매일 한 번 다음 horizon을 인덱스 범위 조회로 채웁니다. (테이블을 주기적으로 훑지 않음)
+ * 홍보글이 바뀌면 해당 홍보글의 일정만 다시 올립니다.
+ * <p>
+ * 서버가 꺼져 있던 동안 지난 일정은 시작할 때 바로 실행합니다.
+ * 지원 마감은 캐시 갱신뿐이라 재시작하면 필요 없고, 예약 시작은 아직 FORM_REVIEWED인 홍보글만, 알림은 보내지 않은 직무만 대상입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecruitmentLifecycleScheduler {
+    private static final int WHEEL_SIZE = 4096; // 1초 tick 기준 한 바퀴 약 68분
+
+    private final PostRepository postRepository;
+    private final RecruitingRepository recruitingRepository;
+    private final RecruitmentLifecycleService lifecycleService;
+    private final ThreadPoolTaskExecutor lifecycleExecutor;
+
+    @Value("${lifecycle.horizon:48h}")
+    private Duration horizon;
+
+    @Value("${lifecycle.reminder-before:24h}")
+    private Duration reminderBefore;
+
+    private final Map<String, HashedTimerWheel.Timeout> armed = new ConcurrentHashMap<>();
+    private HashedTimerWheel wheel;
+
+    enum Transition {
+        POST_CLOSE, RESERVATION_OPEN, RESERVATION_CLOSE, REMINDER
+    }
+
+    @PostConstruct
+    public void start() {
+        wheel = new HashedTimerWheel(1, TimeUnit.SECONDS, WHEEL_SIZE, lifecycleExecutor);
+        wheel.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        wheel.close();
+    }
+
+    /**
+     * 다음 horizon 동안의 일정을 올림 (시작 시 한 번, 이후 매일)
+     * horizon이 하루보다 길어서 매일 채우면 빈틈이 없습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${lifecycle.refill-cron:0 0 4 * * *}")
+    public void refill() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime to = now.plus(horizon);
+
+        List<Object[]> posts = postRepository.findEndTimesBetween(now, to);
+        for (Object[] row : posts) {
+            arm(Transition.POST_CLOSE, (Long) row[0], (LocalDateTime) row[1], now);
+        }
+        List<Object[]> recruitings = recruitingRepository.findReservationSchedules(now, to);
+        for (Object[] row : recruitings) {
+            armRecruiting(row, now);
+        }
+        log.info("모집 일정 예약 완료: 홍보글 " + posts.size() + "건, 직무 " + recruitings.size() + "건");
+    }
+
+    // 홍보글 생성/수정/삭제, 면접 시간 설정 후 해당 홍보글의 일정을 다시 올림
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Long postId = event.getPostId();
+        LocalDateTime now = LocalDateTime.now();
+
+        cancel(Transition.POST_CLOSE, postId);
+        postRepository.findById(postId)
+                .ifPresent(post -> arm(Transition.POST_CLOSE, postId, post.getEndTime(), now));
+        // 빠진 직무의 일정은 남아 있어도 실행 시점에 직무가 없어서 무시됨
+        for (Object[] row : recruitingRepository.findReservationSchedulesByPostId(postId)) {
+            armRecruiting(row, now);
+        }
+    }
+
+    private void armRecruiting(Object[] row, LocalDateTime now) {
+        Long recruitingId = (Long) row[0];
+        LocalDateTime reservationStartTime = (LocalDateTime) row[1];
+        LocalDateTime reservationEndTime = (LocalDateTime) row[2];
+        LocalDateTime reminderSentAt = (LocalDateTime) row[3];
+        RecruitmentStatus status = (RecruitmentStatus) row[4];
+        RecruitmentType type = (RecruitmentType) row[5];
+
+        cancel(Transition.RESERVATION_OPEN, recruitingId);
+        cancel(Transition.RESERVATION_CLOSE, recruitingId);
+        cancel(Transition.REMINDER, recruitingId);
+        if (reservationEndTime == null || !reservationEndTime.isAfter(now)) {
+            return;
+        }
+
+        // 이미 지난 예약 시작, 알림 시각은 바로 실행
+        if (status == RecruitmentStatus.FORM_REVIEWED && reservationStartTime != null) {
+            arm(Transition.RESERVATION_OPEN, recruitingId, max(reservationStartTime, now), now);
+        }
+        arm(Transition.RESERVATION_CLOSE, recruitingId, reservationEndTime, now);
+        if (reminderSentAt == null && type != RecruitmentType.FORM_ONLY) {
+            arm(Transition.REMINDER, recruitingId, max(reservationEndTime.minus(reminderBefore), now), now);
+        }
+    }
+
+    private void arm(Transition transition, Long id, LocalDateTime deadline, LocalDateTime now) {
+        // 지난 일정과 horizon 밖의 일정은 올리지 않음 (horizon 밖은 다음 refill에서 올림)
+        if (deadline == null || deadline.isBefore(now) || deadline.isAfter(now.plus(horizon))) {
+            return;
+        }
+        String key = key(transition, id);
+        long delayMillis = Duration.between(now, deadline).toMillis();
+        armed.compute(key, (k, previous) -> {
+            if (previous != null) {
+                previous.cancel();
+            }
+            return wheel.schedule(() -> fire(transition, id, k), delayMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void cancel(Transition transition, Long id) {
+        HashedTimerWheel.Timeout timeout = armed.remove(key(transition, id));
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void fire(Transition transition, Long id, String key) {
+        armed.computeIfPresent(key, (k, timeout) -> timeout.isExpired() ? null : timeout);
+        try {
+            switch (transition) {
+                case POST_CLOSE -> lifecycleService.closePost(id);
+                case RESERVATION_OPEN -> lifecycleService.openReservation(id);
+                case RESERVATION_CLOSE -> lifecycleService.closeReservation(id);
+                case REMINDER -> lifecycleService.sendReminder(id, reminderBefore);
+            }
+        } catch (RuntimeException e) {
+            log.error("모집 일정 처리 실패: " + key, e);
+        }
+    }
+
+    private String key(Transition transition, Long id) {
+        return transition + ":" + id;
+    }
+
+    private LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
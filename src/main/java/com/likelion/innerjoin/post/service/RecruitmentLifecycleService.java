@@ -0,0 +1,133 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.event.PostChangedEvent;
+import com.likelion.innerjoin.post.model.entity.Post;
+import com.likelion.innerjoin.post.model.entity.Recruiting;
+import com.likelion.innerjoin.post.model.entity.RecruitmentStatus;
+import com.likelion.innerjoin.post.repository.ApplicationRepository;
+import com.likelion.innerjoin.post.repository.PostRepository;
+import com.likelion.innerjoin.post.repository.RecruitingRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 모집 일정에 따른 상태 전이
+ * <p>
+ * RecruitmentLifecycleScheduler가 마감 시각에 호출합니다.
+ * 예약한 뒤에 일정이 바뀌었을 수 있으므로 각 메서드는 DB의 현재 값으로 마감이 지났는지 다시 확인하고, 여러 번 호출되어도 결과가 같습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecruitmentLifecycleService {
+    private static final DateTimeFormatter REMINDER_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final PostRepository postRepository;
+    private final RecruitingRepository recruitingRepository;
+    private final ApplicationRepository applicationRepository;
+    private final MailQueueService mailQueueService;
+    private final SlotAvailabilityHub slotAvailabilityHub;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 지원 마감
+     * 모집중 여부가 바뀌므로 홍보글 목록 캐시와 검색 색인을 갱신합니다.
+     */
+    @Transactional
+    public void closePost(Long postId) {
+        Optional<Post> post = postRepository.findById(postId);
+        if (post.isEmpty() || !isPassed(post.get().getEndTime())) {
+            return;
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        log.info("지원 마감 처리, postId: " + postId);
+    }
+
+    /**
+     * 면접 시간 예약 시작
+     * 서류 평가가 끝난(FORM_REVIEWED) 홍보글을 면접 시간 공개(TIME_SET) 상태로 바꿉니다.
+     * TIME_SET이 되면 면접 시간을 더 이상 설정할 수 없으므로, 홍보글의 모든 직무가 예약 시작 시각을 지났을 때만 바꿉니다.
+     * (직무마다 예약 시작 시각에 호출되므로 마지막 직무에서 바뀜, 예약 시작 시각이 없는 직무가 있으면 바꾸지 않음)
+     */
+    @Transactional
+    public void openReservation(Long recruitingId) {
+        Optional<Recruiting> recruiting = recruitingRepository.findById(recruitingId);
+        if (recruiting.isEmpty() || !isPassed(recruiting.get().getReservationStartTime())
+                || isPassed(recruiting.get().getReservationEndTime())) {
+            return;
+        }
+
+        // 결과 일괄 결정과 동시에 상태를 바꾸지 않도록 홍보글 행을 잠금
+        Long postId = recruiting.get().getPost().getId();
+        Post post = postRepository.findByIdForUpdate(postId).orElse(null);
+        if (post == null || post.getRecruitmentStatus() != RecruitmentStatus.FORM_REVIEWED) {
+            return;
+        }
+        List<Recruiting> waiting = recruitingRepository.findByPostId(postId).stream()
+                .filter(other -> !isPassed(other.getReservationStartTime()))
+                .toList();
+        if (!waiting.isEmpty()) {
+            log.info("면접 시간 예약 시작 대기, postId: " + postId + ", recruitingId: " + recruitingId
+                    + " (예약 시작 전인 직무 " + waiting.size() + "개)");
+            return;
+        }
+        post.setRecruitmentStatus(RecruitmentStatus.TIME_SET);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        log.info("면접 시간 예약 시작, postId: " + postId + ", recruitingId: " + recruitingId);
+    }
+
+    /**
+     * 면접 시간 예약 마감
+     * 예약 변경은 selectMeetingTime에서 막히므로, 잔여석 구독만 종료합니다.
+     */
+    public void closeReservation(Long recruitingId) {
+        Optional<Recruiting> recruiting = recruitingRepository.findById(recruitingId);
+        if (recruiting.isEmpty() || !isPassed(recruiting.get().getReservationEndTime())) {
+            return;
+        }
+        slotAvailabilityHub.complete(recruitingId);
+        log.info("면접 시간 예약 마감, recruitingId: " + recruitingId);
+    }
+
+    /**
+     * 면접 시간 예약 마감 알림
+     * 아직 면접 시간을 고르지 않은 서류 합격자에게 메일 큐로 보냅니다. 직무당 한 번만 보냅니다.
+     * @param reminderBefore 예약 마감 얼마 전에 보내는지
+     */
+    @Transactional
+    public void sendReminder(Long recruitingId, Duration reminderBefore) {
+        Optional<Recruiting> recruiting = recruitingRepository.findById(recruitingId);
+        LocalDateTime reservationEndTime = recruiting.map(Recruiting::getReservationEndTime).orElse(null);
+        if (reservationEndTime == null || isPassed(reservationEndTime) || !isPassed(reservationEndTime.minus(reminderBefore))) {
+            return;
+        }
+        if (recruitingRepository.markReminderSent(recruitingId, LocalDateTime.now()) == 0) {
+            return;
+        }
+
+        List<String> recipients = applicationRepository.findUnbookedApplicantEmails(recruitingId);
+        if (recipients.isEmpty()) {
+            return;
+        }
+        Post post = recruiting.get().getPost();
+        String subject = "[" + post.getTitle() + "] 면접 시간 예약 마감 안내";
+        String content = recruiting.get().getJobTitle() + " 직무의 면접 시간 예약이 "
+                + reservationEndTime.format(REMINDER_TIME_FORMAT) + "에 마감됩니다.\n"
+                + "아직 면접 시간을 선택하지 않으셨다면 마감 전에 예약해 주세요.";
+        mailQueueService.enqueue(post.getClub().getId(), post.getId(), subject, content, recipients);
+        log.info("면접 시간 예약 알림 발송 요청, recruitingId: " + recruitingId + ", " + recipients.size() + "명");
+    }
+
+    private boolean isPassed(LocalDateTime deadline) {
+        return deadline != null && !deadline.isAfter(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,140 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.event.MeetingTimeBookingChangedEvent;
+import com.likelion.innerjoin.post.model.dto.response.MeetingTimeAvailabilityDTO;
+import com.likelion.innerjoin.post.repository.MeetingTimeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 면접 시간 잔여석 실시간 전송 (SSE)
+ * <p>
+ * 직무별 구독자를 메모리에 들고 있다가, 예약 변경 이벤트가 오면 바뀐 면접 시간 id만 모아 둡니다.
+ * 주기마다 직무별로 한 번만 잔여석을 조회해서 모든 구독자에게 같은 내용을 보내므로, 구독자 수와 상관없이 DB 조회는 변경 묶음당 한 번입니다.
+ * 서버 인스턴스 하나 기준이며, 여러 대로 늘리면 인스턴스마다 자기 구독자에게만 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotAvailabilityHub {
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private final MeetingTimeRepository meetingTimeRepository;
+
+    private final Map<Long, Set<SseEmitter>> watchers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 구독 등록 후 현재 잔여석 전체를 snapshot 이벤트로 보냅니다.
+     * 이후에는 바뀐 면접 시간만 availability 이벤트로 보냅니다.
+     * <p>
+     * 먼저 등록해야 snapshot 조회 전후에 커밋된 예약 변경이 pending에 남습니다. (조회 후 등록하면 그 사이 변경이 빠짐)
+     * snapshot을 보낼 때까지 emitter를 잠가 두므로, 그 사이 flush된 변경은 snapshot 뒤에 도착합니다.
+     * @param snapshotLoader 현재 잔여석 조회 (등록한 뒤에 호출, open-in-view 밖이라 조회가 끝나면 커넥션을 반납)
+     */
+    public SseEmitter subscribe(Long recruitingId, Supplier<List<MeetingTimeAvailabilityDTO>> snapshotLoader) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        synchronized (emitter) {
+            watchers.computeIfAbsent(recruitingId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+            emitter.onCompletion(() -> remove(recruitingId, emitter));
+            emitter.onTimeout(() -> remove(recruitingId, emitter));
+            emitter.onError(e -> remove(recruitingId, emitter));
+
+            List<MeetingTimeAvailabilityDTO> snapshot;
+            try {
+                snapshot = snapshotLoader.get();
+            } catch (RuntimeException e) {
+                remove(recruitingId, emitter);
+                throw e;
+            }
+            send(recruitingId, emitter, SseEmitter.event().name("snapshot").data(snapshot));
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingChanged(MeetingTimeBookingChangedEvent event) {
+        if (!watchers.containsKey(event.getRecruitingId())) {
+            return;
+        }
+        pending.computeIfAbsent(event.getRecruitingId(), id -> ConcurrentHashMap.newKeySet())
+                .addAll(event.getMeetingTimeIds());
+    }
+
+    // 예약이 몰릴 때 변경을 묶어서 보냄
+    @Scheduled(fixedDelayString = "${sse.slot.flush-interval:200}")
+    public void flush() {
+        for (Long recruitingId : new ArrayList<>(pending.keySet())) {
+            Set<Long> meetingTimeIds = pending.remove(recruitingId);
+            Set<SseEmitter> emitters = watchers.get(recruitingId);
+            if (meetingTimeIds == null || meetingTimeIds.isEmpty() || emitters == null || emitters.isEmpty()) {
+                continue;
+            }
+
+            List<MeetingTimeAvailabilityDTO> changed = meetingTimeRepository.findAvailabilityByIdIn(meetingTimeIds);
+            for (SseEmitter emitter : emitters) {
+                send(recruitingId, emitter, SseEmitter.event().name("availability").data(changed));
+            }
+        }
+    }
+
+    // 프록시, 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석을 보내고, 끊긴 구독자를 정리
+    @Scheduled(fixedDelayString = "${sse.slot.heartbeat-interval:25000}")
+    public void heartbeat() {
+        watchers.forEach((recruitingId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                send(recruitingId, emitter, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    /**
+     * 예약 마감 후 직무의 구독을 모두 종료 (더 이상 잔여석이 바뀌지 않음)
+     */
+    public void complete(Long recruitingId) {
+        pending.remove(recruitingId);
+        Set<SseEmitter> emitters = watchers.remove(recruitingId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("closed").data(recruitingId));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    // 구독 중인 snapshot 전송과 순서가 섞이지 않도록 emitter 단위로 잠금
+    private void send(Long recruitingId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        synchronized (emitter) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+                remove(recruitingId, emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void remove(Long recruitingId, SseEmitter emitter) {
+        watchers.computeIfPresent(recruitingId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
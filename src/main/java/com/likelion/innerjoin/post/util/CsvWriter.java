@@ -0,0 +1,82 @@
+package com.likelion.innerjoin.post.util;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 형식으로 한 줄씩 바로 써내는 CSV writer
+ * 엑셀에서 열었을 때 지원자가 입력한 값이 수식으로 실행되지 않도록 =, +, -, @ 로 시작하는 값 앞에 ' 를 붙입니다.
+ */
+public class CsvWriter implements Closeable, Flushable {
+    private static final char BOM = '\uFEFF';
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    // 엑셀이 UTF-8로 인식하도록 파일 맨 앞에 BOM을 씀
+    public void writeBom() throws IOException {
+        writer.write(BOM);
+    }
+
+    public void writeRow(String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (isFormula(value)) {
+            value = "'" + value;
+        }
+        if (!needsQuote(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean isFormula(String value) {
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
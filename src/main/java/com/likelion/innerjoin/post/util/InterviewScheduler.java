@@ -0,0 +1,197 @@
+package com.likelion.innerjoin.post.util;
+
+import java.util.Arrays;
+
+/**
+ * 면접 시간 자동 배정 solver
+ * <p>
+ * 지원자(왼쪽)와 면접 시간(오른쪽, 허용 인원만큼 여러 명 배정 가능) 사이의 b-matching을 Hopcroft-Karp 방식으로 구합니다.
+ * 면접 시간별 상한을 1명부터 허용 인원까지 한 단계씩 올리면서 이전 배정에 augmenting path만 추가하므로,
+ * 결과는 최대 인원이 배정되면서 가장 붐비는 면접 시간의 인원이 가능한 한 작은(물 채우듯 고르게 나눈) 배정이 됩니다.
+ * 지원자별 희망 면접 시간은 앞에 있을수록 먼저 시도합니다.
+ * <p>
+ * DB나 Spring에 의존하지 않는 순수 계산 클래스이며, 스레드 안전하지 않으므로 호출마다 새로 만듭니다.
+ */
+public final class InterviewScheduler {
+    private static final int INF = Integer.MAX_VALUE;
+    public static final int UNASSIGNED = -1;
+
+    private final int[][] preferences;
+    private final int[] capacities;
+    private final int applicantCount;
+    private final int slotCount;
+
+    private final int[] assignment;    // 지원자 -> 면접 시간 (없으면 UNASSIGNED)
+    private final int[][] members;     // 면접 시간 -> 배정된 지원자
+    private final int[] load;          // 면접 시간별 배정 인원
+    private final int[] limit;         // 현재 단계의 면접 시간별 상한
+
+    private final int[] applicantDist;
+    private final int[] slotDist;
+    private final int[] nextEdge;
+    private final int[] nextMember;    // 지원자별로 현재 면접 시간에서 다음에 밀어낼 지원자 index
+    private final int[] path;          // augmenting path 탐색 stack (layer마다 지원자 한 명)
+    private final int[] queue;
+    private int freeLayer;
+
+    /**
+     * @param preferences 지원자별 배정 가능한 면접 시간 index (희망 순서)
+     * @param capacities 면접 시간별 허용 인원
+     */
+    public InterviewScheduler(int[][] preferences, int[] capacities) {
+        this.preferences = preferences;
+        this.capacities = capacities;
+        this.applicantCount = preferences.length;
+        this.slotCount = capacities.length;
+
+        this.assignment = new int[applicantCount];
+        Arrays.fill(assignment, UNASSIGNED);
+        this.members = new int[slotCount][];
+        for (int slot = 0; slot < slotCount; slot++) {
+            members[slot] = new int[Math.max(capacities[slot], 0)];
+        }
+        this.load = new int[slotCount];
+        this.limit = new int[slotCount];
+
+        this.applicantDist = new int[applicantCount];
+        this.slotDist = new int[slotCount];
+        this.nextEdge = new int[applicantCount];
+        this.nextMember = new int[applicantCount];
+        this.path = new int[applicantCount];
+        this.queue = new int[applicantCount];
+    }
+
+    public static int[] solve(int[][] preferences, int[] capacities) {
+        return new InterviewScheduler(preferences, capacities).solve();
+    }
+
+    /**
+     * @return 지원자별 배정된 면접 시간 index (배정하지 못한 지원자는 UNASSIGNED)
+     */
+    public int[] solve() {
+        int maxCapacity = 0;
+        for (int capacity : capacities) {
+            maxCapacity = Math.max(maxCapacity, capacity);
+        }
+
+        int matched = 0;
+        for (int level = 1; level <= maxCapacity && matched < applicantCount; level++) {
+            for (int slot = 0; slot < slotCount; slot++) {
+                limit[slot] = Math.min(Math.max(capacities[slot], 0), level);
+            }
+            while (bfs()) {
+                Arrays.fill(nextEdge, 0);
+                for (int applicant = 0; applicant < applicantCount; applicant++) {
+                    if (assignment[applicant] == UNASSIGNED && applicantDist[applicant] == 0 && dfs(applicant)) {
+                        matched++;
+                    }
+                }
+            }
+        }
+        return assignment.clone();
+    }
+
+    // 배정되지 않은 지원자에서 시작해 여유 있는 면접 시간까지의 최단 layer를 만듦
+    private boolean bfs() {
+        int head = 0;
+        int tail = 0;
+        for (int applicant = 0; applicant < applicantCount; applicant++) {
+            if (assignment[applicant] == UNASSIGNED) {
+                applicantDist[applicant] = 0;
+                queue[tail++] = applicant;
+            } else {
+                applicantDist[applicant] = INF;
+            }
+        }
+        Arrays.fill(slotDist, INF);
+        freeLayer = INF;
+
+        while (head < tail) {
+            int applicant = queue[head++];
+            if (applicantDist[applicant] >= freeLayer) {
+                continue;
+            }
+            for (int slot : preferences[applicant]) {
+                if (slotDist[slot] != INF) {
+                    continue;
+                }
+                slotDist[slot] = applicantDist[applicant] + 1;
+                if (load[slot] < limit[slot]) {
+                    freeLayer = Math.min(freeLayer, slotDist[slot]);
+                    continue;
+                }
+                for (int i = 0; i < load[slot]; i++) {
+                    int member = members[slot][i];
+                    if (applicantDist[member] == INF) {
+                        applicantDist[member] = slotDist[slot] + 1;
+                        queue[tail++] = member;
+                    }
+                }
+            }
+        }
+        return freeLayer != INF;
+    }
+
+    /**
+     * root에서 시작하는 augmenting path를 찾아 배정에 반영
+     * 옮겨간 면접 시간이 가득 차 있으면 그 시간의 지원자 한 명을 다음 layer로 밀어내는 과정을 여유 있는 면접 시간에 닿을 때까지 반복합니다.
+     * 지원자가 길게 이어지면 재귀 호출은 StackOverflowError가 나므로 path를 stack으로 써서 반복문으로 탐색합니다.
+     * path[d]는 path[d - 1]이 밀어내려는 지원자이고, 찾으면 끝에서부터 각자 밀어낸 자리를 채웁니다.
+     */
+    private boolean dfs(int root) {
+        int depth = 0;
+        path[0] = root;
+        nextMember[root] = 0;
+        while (depth >= 0) {
+            int applicant = path[depth];
+            int[] slots = preferences[applicant];
+            int next = UNASSIGNED;
+            while (nextEdge[applicant] < slots.length) {
+                int slot = slots[nextEdge[applicant]];
+                if (slotDist[slot] == applicantDist[applicant] + 1 && slotDist[slot] <= freeLayer) {
+                    if (load[slot] < limit[slot]) {
+                        int index = load[slot]++;
+                        members[slot][index] = applicant;
+                        assignment[applicant] = slot;
+                        fillVacatedSeats(depth);
+                        return true;
+                    }
+                    // 실패한 지원자는 applicantDist가 INF가 되므로, 자식 탐색이 실패하고 돌아오면 여기서 건너뜀
+                    for (; nextMember[applicant] < load[slot]; nextMember[applicant]++) {
+                        int member = members[slot][nextMember[applicant]];
+                        if (applicantDist[member] == slotDist[slot] + 1) {
+                            next = member;
+                            break;
+                        }
+                    }
+                    if (next != UNASSIGNED) {
+                        break;
+                    }
+                    // 이 면접 시간을 거쳐서는 더 이상 augmenting path가 없음
+                    slotDist[slot] = INF;
+                }
+                nextEdge[applicant]++;
+                nextMember[applicant] = 0;
+            }
+
+            if (next != UNASSIGNED) {
+                path[++depth] = next;
+                nextMember[next] = 0;
+            } else {
+                applicantDist[applicant] = INF;
+                depth--;
+            }
+        }
+        return false;
+    }
+
+    // path[depth]가 여유 있는 면접 시간에 들어갔으면, 앞 지원자부터 각자 밀어낸 지원자의 자리로 옮김
+    private void fillVacatedSeats(int depth) {
+        for (int d = depth - 1; d >= 0; d--) {
+            int applicant = path[d];
+            int slot = preferences[applicant][nextEdge[applicant]];
+            members[slot][nextMember[applicant]] = applicant;
+            assignment[applicant] = slot;
+        }
+    }
+}
@@ -11,12 +11,15 @@ import java.util.List;
 
 @Converter
 public class JsonConverter implements AttributeConverter<List<String>, String> {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // ObjectMapper와 TypeReference는 스레드 안전하므로 모든 컨버터 인스턴스가 공유
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
 
     @Override
     public String convertToDatabaseColumn(List<String> attribute) {
         try{
-            return objectMapper.writeValueAsString(attribute);
+            return OBJECT_MAPPER.writeValueAsString(attribute);
         } catch (Exception e){
             throw new JsonConvertException("Json 파싱 과정에서 오류가 발생하였습니다.");
         }
@@ -25,8 +28,7 @@ public class JsonConverter implements AttributeConverter<List<String>, String> {
     @Override
     public List<String> convertToEntityAttribute(String dbData) {
         try{
-            return objectMapper.readValue(dbData, new TypeReference<>() {
-            });
+            return OBJECT_MAPPER.readValue(dbData, STRING_LIST);
         } catch (Exception e){
             throw new JsonConvertException("Json 파싱 과정에서 오류가 발생하였습니다.");
         }
@@ -0,0 +1,69 @@
+package com.likelion.innerjoin.post.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한국어 검색용 n-gram 토크나이저
+ * <p>
+ * 형태소 분석 없이 단어를 음절 단위 unigram, bigram으로 나눕니다.
+ * 색인할 때는 unigram과 bigram을 모두 만들고, 검색할 때는 한 글자 단어만 unigram, 나머지는 bigram을 사용합니다.
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인용 토큰 (중복 포함)
+     */
+    public static List<String> indexTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색용 토큰 (중복 제거)
+     */
+    public static Set<String> queryTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
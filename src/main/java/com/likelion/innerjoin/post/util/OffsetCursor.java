@@ -0,0 +1,42 @@
+package com.likelion.innerjoin.post.util;
+
+import com.likelion.innerjoin.post.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 결과 페이지네이션 커서
+ * <p>
+ * 검색 결과는 메모리의 색인에서 순위대로 만들어지므로 순위상의 위치(offset)를 불투명한 문자열로 전달합니다.
+ */
+public final class OffsetCursor {
+    private static final String PREFIX = "s|";
+
+    private OffsetCursor() {
+    }
+
+    public static String encode(int offset) {
+        String raw = PREFIX + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException();
+            }
+            int offset = Integer.parseInt(raw.substring(PREFIX.length()));
+            if (offset < 0) {
+                throw new IllegalArgumentException();
+            }
+            return offset;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.likelion.innerjoin.post.util;
+
+import com.likelion.innerjoin.post.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 홍보글 리스트 keyset 페이지네이션 커서
+ * <p>
+ * 마지막으로 내려준 홍보글의 (createdAt, postId)를 담고, 클라이언트에는 불투명한 문자열로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long postId;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -12,12 +12,15 @@ import com.likelion.innerjoin.user.service.ClubService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -38,7 +41,11 @@ public class ClubController {
     // 카테고리 조회 API
     @Operation(summary = "카테고리 조회 API", description = "동아리 카테고리를 조회.")
     @GetMapping("/category")
-    public ResponseEntity<CommonResponse<List<ClubCategoryResponseDto>>> getClubCategories() {
+    public ResponseEntity<CommonResponse<List<ClubCategoryResponseDto>>> getClubCategories(ServletWebRequest webRequest) {
+        // 거의 바뀌지 않는 공개 자원이라 1시간 동안은 재검증 없이 사용
+        if (clubService.getClubCategoriesVersion().checkNotModified(webRequest, CacheControl.maxAge(Duration.ofHours(1)).cachePublic())) {
+            return null;
+        }
         List<ClubCategoryResponseDto> categories = clubService.getClubCategories();
         return ResponseEntity.ok(new CommonResponse<>(categories));
     }
@@ -0,0 +1,13 @@
+package com.likelion.innerjoin.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지원자 정보가 수정되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ApplicantChangedEvent {
+    private final Long applicantId;
+}
@@ -0,0 +1,13 @@
+package com.likelion.innerjoin.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 동아리 정보(이름, 카테고리 등)가 수정되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ClubChangedEvent {
+    private final Long clubId;
+}
@@ -2,8 +2,14 @@ package com.likelion.innerjoin.user.repository;
 
 import com.likelion.innerjoin.user.model.entity.ClubCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ClubCategoryRepository extends JpaRepository<ClubCategory, Long> {
+    // 카테고리 목록 조건부 GET용: [최종 수정 시각, 카테고리 수]
+    @Query("SELECT MAX(c.modifiedAt), COUNT(c) FROM ClubCategory c")
+    List<Object[]> findListVersion();
 }
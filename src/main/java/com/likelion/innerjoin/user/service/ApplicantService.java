@@ -2,6 +2,7 @@ package com.likelion.innerjoin.user.service;
 
 import com.likelion.innerjoin.common.response.CommonResponse;
 import com.likelion.innerjoin.post.exception.UnauthorizedException;
+import com.likelion.innerjoin.user.event.ApplicantChangedEvent;
 import com.likelion.innerjoin.user.exception.EmailValidationException;
 import com.likelion.innerjoin.user.exception.SignUpIDException;
 import com.likelion.innerjoin.user.model.dto.request.ApplicantSignUpRequestDto;
@@ -11,9 +12,10 @@ import com.likelion.innerjoin.user.model.entity.Applicant;
 import com.likelion.innerjoin.user.repository.ApplicantRepository;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import com.likelion.innerjoin.user.model.entity.User;
+import com.likelion.innerjoin.user.util.SessionUser;
 import com.likelion.innerjoin.user.util.SessionVerifier;
 
 
@@ -23,6 +25,7 @@ public class ApplicantService {
 
     private final ApplicantRepository applicantRepository;
     private final SessionVerifier sessionVerifier;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 지원자 회원가입
@@ -62,7 +65,7 @@ public class ApplicantService {
      */
     public ApplicantResponseDto getApplicantInfo(HttpSession session) {
         // 세션에서 사용자 정보 확인
-        Applicant applicant = checkApplicant(session);
+        Applicant applicant = findApplicant(checkApplicant(session));
 
         // 요청된 applicantId와 세션의 applicantId 비교
 //        if (!applicant.getId().equals(applicantId)) {
@@ -75,12 +78,17 @@ public class ApplicantService {
     /**
      * 세션에서 지원자 정보 확인
      */
-    Applicant checkApplicant(HttpSession session) {
-        User user = sessionVerifier.verifySession(session);
-        if (!(user instanceof Applicant applicant)) {
+    SessionUser checkApplicant(HttpSession session) {
+        SessionUser user = sessionVerifier.verifySession(session);
+        if (!user.isApplicant()) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
-        return applicant;
+        return user;
+    }
+
+    private Applicant findApplicant(SessionUser user) {
+        return applicantRepository.findById(user.getId())
+                .orElseThrow(() -> new UnauthorizedException("잘못된 유저입니다."));
     }
 
     /**
@@ -106,7 +114,7 @@ public class ApplicantService {
     @Transactional
     public void updateApplicantInfo(ApplicantUpdateRequestDto updateRequestDto, HttpSession session) {
         // 세션에서 사용자 정보 확인
-        Applicant applicant = checkApplicant(session);
+        Applicant applicant = findApplicant(checkApplicant(session));
 
         // 요청된 applicantId와 세션의 applicantId 비교
 //        if (!applicant.getId().equals(applicantId)) {
@@ -119,5 +127,6 @@ public class ApplicantService {
         applicant.setMajor(updateRequestDto.getMajor());
         applicant.setPassword(updateRequestDto.getPassword());
         applicantRepository.save(applicant);
+        eventPublisher.publishEvent(new ApplicantChangedEvent(applicant.getId()));
     }
 }
\ No newline at end of file
@@ -2,9 +2,11 @@ package com.likelion.innerjoin.user.service;
 
 import com.likelion.innerjoin.common.exception.ErrorCode;
 import com.likelion.innerjoin.common.service.BlobService;
+import com.likelion.innerjoin.common.util.ResourceVersion;
 import com.likelion.innerjoin.post.exception.ImageProcessingException;
 import com.likelion.innerjoin.post.exception.UnauthorizedException;
 import com.likelion.innerjoin.post.model.entity.PostImage;
+import com.likelion.innerjoin.user.event.ClubChangedEvent;
 import com.likelion.innerjoin.user.exception.SignUpIDException;
 import com.likelion.innerjoin.user.model.dto.request.ClubSignUpRequestDto;
 import com.likelion.innerjoin.user.model.dto.request.ClubUpdateRequestDto;
@@ -13,17 +15,18 @@ import com.likelion.innerjoin.user.model.dto.response.ClubCategoryResponseDto;
 import com.likelion.innerjoin.user.model.dto.response.ClubResponseDto;
 import com.likelion.innerjoin.user.model.entity.Club;
 import com.likelion.innerjoin.user.model.entity.ClubCategory;
-import com.likelion.innerjoin.user.model.entity.User;
 import com.likelion.innerjoin.user.repository.ClubCategoryRepository;
 import com.likelion.innerjoin.common.response.CommonResponse;
 import com.likelion.innerjoin.user.model.dto.request.EmailRequestDto;
 import com.likelion.innerjoin.user.model.dto.response.EmailResponseDto;
 import com.likelion.innerjoin.user.exception.EmailValidationException;
 import com.likelion.innerjoin.user.repository.ClubRepository;
+import com.likelion.innerjoin.user.util.SessionUser;
 import com.likelion.innerjoin.user.util.SessionVerifier;
 import jakarta.servlet.http.HttpSession;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -39,6 +42,7 @@ public class ClubService {
     private final ClubCategoryRepository clubCategoryRepository;
     private final SessionVerifier sessionVerifier;
     private final BlobService blobService;
+    private final ApplicationEventPublisher eventPublisher;
     //private final BlobService blobService;
 
 
@@ -71,6 +75,15 @@ public class ClubService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 카테고리 조회의 조건부 GET 검증자 (카테고리 최종 수정 시각과 개수)
+     * @return 검증자
+     */
+    public ResourceVersion getClubCategoriesVersion() {
+        Object[] row = clubCategoryRepository.findListVersion().get(0);
+        return ResourceVersion.weak(row[0], row[1]);
+    }
+
 
     /**
      * 동아리 회원 정보 조회
@@ -81,25 +94,27 @@ public class ClubService {
      */
     public ClubResponseDto getClubInfo(Long clubId, HttpSession session) {
         // 세션에서 사용자 정보 확인
-        Club club = checkClub(session);
+        SessionUser user = checkClub(session);
 
         // 요청된 clubId와 세션의 clubId 비교
-        if (!club.getId().equals(clubId)) {
+        if (!user.getId().equals(clubId)) {
             throw new UnauthorizedException("해당 동아리 접근 권한이 없습니다.");
         }
 
+        Club club = clubRepository.findById(clubId)
+                .orElseThrow(() -> new UnauthorizedException("잘못된 유저입니다."));
         return toClubResponseDto(club);
     }
 
     /**
      * 세션에서 클럽 정보 확인
      */
-    Club checkClub(HttpSession session) {
-        User user = sessionVerifier.verifySession(session);
-        if(!(user instanceof Club club)) {
+    SessionUser checkClub(HttpSession session) {
+        SessionUser user = sessionVerifier.verifySession(session);
+        if(!user.isClub()) {
             throw new UnauthorizedException("권한이 없습니다.");
         }
-        return club;
+        return user;
     }
 
 
@@ -160,13 +175,16 @@ public class ClubService {
     @Transactional
     public void updateClubInfo(Long clubId, ClubUpdateRequestDto updateRequestDto, MultipartFile image, HttpSession session) {
         // 세션에서 클럽 정보 확인
-        Club club = checkClub(session);
+        SessionUser user = checkClub(session);
 
         // 요청된 clubId와 세션의 clubId 비교
-        if (!club.getId().equals(clubId)) {
+        if (!user.getId().equals(clubId)) {
             throw new UnauthorizedException("해당 동아리 접근 권한이 없습니다.");
         }
 
+        Club club = clubRepository.findById(clubId)
+                .orElseThrow(() -> new UnauthorizedException("잘못된 유저입니다."));
+
         // 클럽 정보 업데이트
         club.setName(updateRequestDto.getName());
         club.setSchool(updateRequestDto.getSchool());
@@ -198,6 +216,7 @@ public class ClubService {
         }
 
         clubRepository.save(club);
+        eventPublisher.publishEvent(new ClubChangedEvent(club.getId()));
     }
 
 
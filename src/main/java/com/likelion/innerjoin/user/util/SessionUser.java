@@ -0,0 +1,32 @@
+package com.likelion.innerjoin.user.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 세션으로 인증된 사용자 정보
+ * <p>
+ * 영속성 컨텍스트와 무관한 불변 객체라서 요청, 스레드 사이에서 캐시해도 안전합니다.
+ * 엔티티가 필요한 경우에는 id로 직접 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionUser {
+    public static final String CLUB = "club";
+    public static final String APPLICANT = "applicant";
+
+    private final Long id;
+    private final String role;
+
+    public boolean isClub() {
+        return CLUB.equals(role);
+    }
+
+    public boolean isApplicant() {
+        return APPLICANT.equals(role);
+    }
+
+    public Long getClubId() {
+        return isClub() ? id : null;
+    }
+}
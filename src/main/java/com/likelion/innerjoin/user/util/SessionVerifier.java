@@ -1,20 +1,39 @@
 package com.likelion.innerjoin.user.util;
 
+import com.likelion.innerjoin.common.cache.LocalCache;
 import com.likelion.innerjoin.post.exception.UnauthorizedException;
-import com.likelion.innerjoin.user.model.entity.User;
+import com.likelion.innerjoin.user.event.ApplicantChangedEvent;
+import com.likelion.innerjoin.user.event.ClubChangedEvent;
 import com.likelion.innerjoin.user.repository.ApplicantRepository;
 import com.likelion.innerjoin.user.repository.ClubRepository;
 import jakarta.servlet.http.HttpSession;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.time.Duration;
+
+/**
+ * 세션 검증
+ * <p>
+ * 검증된 사용자는 요청 단위로 한 번, 프로세스 단위로 짧은 시간 동안 캐시해서 매 요청마다 DB를 조회하지 않습니다.
+ */
 @Component
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class SessionVerifier {
+    private static final String REQUEST_ATTRIBUTE = SessionVerifier.class.getName() + ".user";
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(1);
+
     private final ClubRepository clubRepository;
     private final ApplicantRepository applicantRepository;
 
-    public User verifySession(HttpSession session) {
+    private final LocalCache<String, SessionUser> userCache = new LocalCache<>(MAX_SIZE, TTL);
+
+    public SessionUser verifySession(HttpSession session) {
         if( session == null ){
             throw new UnauthorizedException("잘못된 접근입니다.");
         }
@@ -31,12 +50,47 @@ public class SessionVerifier {
             throw new UnauthorizedException("잘못된 유저입니다.");
         }
 
-        if( role.equals("club") ){
-            return clubRepository.findById(userId).orElseThrow(() -> new UnauthorizedException("잘못된 유저입니다."));
-        }else if ( role.equals("applicant") ){
-            return applicantRepository.findById(userId).orElseThrow(() -> new UnauthorizedException("잘못된 유저입니다."));
+        // 같은 요청 안에서는 한 번만 검증
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if( requestAttributes != null ){
+            Object memo = requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if( memo instanceof SessionUser user && user.getId().equals(userId) && user.getRole().equals(role) ){
+                return user;
+            }
+        }
+
+        SessionUser user = userCache.get(key(role, userId), k -> load(userId, role));
+        if( user == null ){
+            throw new UnauthorizedException("잘못된 유저입니다.");
+        }
+
+        if( requestAttributes != null ){
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClubChanged(ClubChangedEvent event) {
+        userCache.invalidate(key(SessionUser.CLUB, event.getClubId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicantChanged(ApplicantChangedEvent event) {
+        userCache.invalidate(key(SessionUser.APPLICANT, event.getApplicantId()));
+    }
+
+    private SessionUser load(Long userId, String role) {
+        if( role.equals(SessionUser.CLUB) ){
+            return clubRepository.existsById(userId) ? new SessionUser(userId, SessionUser.CLUB) : null;
+        }else if ( role.equals(SessionUser.APPLICANT) ){
+            return applicantRepository.existsById(userId) ? new SessionUser(userId, SessionUser.APPLICANT) : null;
         }else {
             throw new UnauthorizedException("잘못된 유저입니다.");
         }
     }
+
+    private String key(String role, Long userId) {
+        return role + ":" + userId;
+    }
 }
@@ -0,0 +1,28 @@
+-- 중복 지원 unique 제약(uk_application_recruiting_applicant) 추가 전 정리 스크립트 (MySQL, 배포 전에 직접 실행)
+-- ddl-auto: update는 중복 행이 있으면 제약 추가에 실패하고 로그만 남긴 채 넘어가므로,
+-- 같은 (recruiting_id, applicant_id)의 지원서 중 가장 먼저 지원한 것만 남기고 나머지를 지운 뒤 제약을 추가합니다.
+-- 면접 예약 인원(booked_count)은 서버 시작 시 다시 맞춰지고, 지운 직무의 통계는 recruiting_stat을 비워 두면 시작 시 다시 계산됩니다.
+
+START TRANSACTION;
+
+CREATE TEMPORARY TABLE duplicate_application AS
+SELECT a.application_id, a.recruiting_id
+FROM application a
+JOIN (
+    SELECT recruiting_id, applicant_id, MIN(application_id) AS keep_id
+    FROM application
+    GROUP BY recruiting_id, applicant_id
+    HAVING COUNT(*) > 1
+) d ON d.recruiting_id = a.recruiting_id AND d.applicant_id = a.applicant_id
+WHERE a.application_id <> d.keep_id;
+
+DELETE r FROM response r JOIN duplicate_application d ON d.application_id = r.application_id;
+DELETE a FROM application a JOIN duplicate_application d ON d.application_id = a.application_id;
+DELETE s FROM recruiting_stat s WHERE s.recruiting_id IN (SELECT DISTINCT recruiting_id FROM duplicate_application);
+
+DROP TEMPORARY TABLE duplicate_application;
+
+COMMIT;
+
+ALTER TABLE application
+    ADD CONSTRAINT uk_application_recruiting_applicant UNIQUE (recruiting_id, applicant_id);
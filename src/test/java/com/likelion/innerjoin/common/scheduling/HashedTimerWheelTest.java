@@ -0,0 +1,68 @@
+package com.likelion.innerjoin.common.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimerWheelTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> fired = new ArrayList<>();
+    // 칸 8개, tick 1초 -> 한 바퀴 8초
+    private final HashedTimerWheel wheel = new HashedTimerWheel(1, TimeUnit.SECONDS, 8, Runnable::run, clock::get);
+
+    @Test
+    void firesAfterDeadlineWithinOneTick() {
+        wheel.schedule(() -> fired.add("a"), 2500, TimeUnit.MILLISECONDS);
+
+        advanceTo(2_900);
+        assertThat(fired).isEmpty();
+
+        advanceTo(3_000);
+        assertThat(fired).containsExactly("a");
+    }
+
+    @Test
+    void countsRoundsForDeadlinesBeyondOneRotation() {
+        wheel.schedule(() -> fired.add("far"), 20, TimeUnit.SECONDS);
+        wheel.schedule(() -> fired.add("near"), 4, TimeUnit.SECONDS);
+
+        advanceTo(19_000);
+        assertThat(fired).containsExactly("near");
+
+        advanceTo(21_000);
+        assertThat(fired).containsExactly("near", "far");
+    }
+
+    @Test
+    void skipsCancelledTimeouts() {
+        HashedTimerWheel.Timeout timeout = wheel.schedule(() -> fired.add("cancelled"), 1, TimeUnit.SECONDS);
+        wheel.schedule(() -> fired.add("kept"), 1, TimeUnit.SECONDS);
+
+        assertThat(timeout.cancel()).isTrue();
+        advanceTo(5_000);
+
+        assertThat(fired).containsExactly("kept");
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    void firesPastDeadlinesOnNextTick() {
+        advanceTo(10_000);
+        HashedTimerWheel.Timeout timeout = wheel.schedule(() -> fired.add("late"), -5, TimeUnit.SECONDS);
+
+        advanceTo(11_000);
+
+        assertThat(fired).containsExactly("late");
+        assertThat(timeout.isExpired()).isTrue();
+    }
+
+    private void advanceTo(long millis) {
+        clock.set(TimeUnit.MILLISECONDS.toNanos(millis));
+        wheel.advance();
+    }
+}
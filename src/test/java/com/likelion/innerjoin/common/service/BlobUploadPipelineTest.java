@@ -0,0 +1,205 @@
+package com.likelion.innerjoin.common.service;
+
+import com.likelion.innerjoin.common.image.ImageProcessor;
+import com.likelion.innerjoin.common.image.ImageTooLargeException;
+import com.likelion.innerjoin.common.image.ImageVariant;
+import com.likelion.innerjoin.common.image.StoredImage;
+import com.likelion.innerjoin.common.image.UnsupportedImageException;
+import com.likelion.innerjoin.common.storage.BlobLeaseRepository;
+import com.likelion.innerjoin.common.storage.LocalBlobStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlobUploadPipelineTest {
+
+    @TempDir
+    Path root;
+
+    private ExecutorService executor;
+    private BlobUploadPipeline pipeline;
+    private final List<StoredImage> leased = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        pipeline = new BlobUploadPipeline(new BlobService(new LocalBlobStore(root), new ImageProcessor(), leaseRecorder()), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void storesResizedVariantsKeyedByContentHash() throws IOException {
+        List<StoredImage> images = pipeline.uploadImages(List.of(image("a.png", 4000, 3000), image("b.png", 200, 100)));
+
+        assertThat(images).hasSize(2);
+        assertThat(images).allSatisfy(image -> {
+            assertThat(image.isCreated()).isTrue();
+            assertThat(image.getThumbnailUrl()).endsWith("_thumb.jpg");
+            assertThat(image.getCardUrl()).endsWith("_card.jpg");
+            assertThat(image.getFullUrl()).endsWith("_full.jpg");
+        });
+        assertThat(storedFiles()).hasSize(6);
+
+        BufferedImage thumbnail = ImageIO.read(Path.of(URI.create(images.get(0).getThumbnailUrl())).toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(ImageVariant.THUMB.getMaxSize());
+        assertThat(thumbnail.getHeight()).isEqualTo(240);
+
+        // 원본보다 크게 늘리지 않음
+        BufferedImage small = ImageIO.read(Path.of(URI.create(images.get(1).getFullUrl())).toFile());
+        assertThat(small.getWidth()).isEqualTo(200);
+    }
+
+    @Test
+    void reusesFilesForDuplicateUploads() throws IOException {
+        StoredImage first = pipeline.uploadImages(List.of(image("a.png", 800, 600))).get(0);
+        StoredImage second = pipeline.uploadImages(List.of(image("copy.png", 800, 600))).get(0);
+
+        assertThat(second.isCreated()).isFalse();
+        assertThat(second.getFullUrl()).isEqualTo(first.getFullUrl());
+        assertThat(storedFiles()).hasSize(3);
+    }
+
+    @Test
+    void rejectsUndecodableFiles() throws IOException {
+        // 변환 없이 저장하면 메타데이터가 남으므로 거절
+        assertThatThrownBy(() -> pipeline.uploadImages(List.of(
+                new MockMultipartFile("images", "photo.heic", "image/heic", "not an image".getBytes()))))
+                .isInstanceOf(UnsupportedImageException.class);
+        assertThatThrownBy(() -> pipeline.uploadImages(List.of(
+                new MockMultipartFile("images", "fake.png", "image/png", "not an image".getBytes()))))
+                .isInstanceOf(UnsupportedImageException.class);
+        assertThat(storedFiles()).isEmpty();
+    }
+
+    @Test
+    void rejectsFilesOverSizeLimitBeforeReading() throws IOException {
+        MultipartFile huge = new MockMultipartFile("images", "huge.png", "image/png", new byte[0]) {
+            @Override
+            public long getSize() {
+                return 50L * 1024 * 1024;
+            }
+        };
+
+        assertThatThrownBy(() -> pipeline.uploadImages(List.of(huge)))
+                .isInstanceOf(ImageTooLargeException.class);
+        assertThat(storedFiles()).isEmpty();
+    }
+
+    @Test
+    void leavesUploadedFilesToSweeperWhenAnyUploadFails() throws IOException {
+        MultipartFile broken = new MockMultipartFile("images", "broken.png", "image/png", new byte[0]) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("stream closed");
+            }
+        };
+
+        assertThatThrownBy(() -> pipeline.uploadImages(List.of(image("a.png", 100, 100), broken, image("c.png", 50, 50))))
+                .hasRootCauseMessage("stream closed");
+        // 다른 요청이 재사용했을 수 있으므로 바로 지우지 않고 정리 후보로만 남김
+        assertThat(storedFiles()).hasSize(6);
+        assertThat(leasedFiles()).containsAll(storedFiles());
+    }
+
+    @Test
+    void rejectsImagesOverPixelLimitBeforeDecoding() throws IOException {
+        BlobUploadPipeline limited = new BlobUploadPipeline(
+                new BlobService(new LocalBlobStore(root), new ImageProcessor(10_000), leaseRecorder()), executor);
+
+        assertThatThrownBy(() -> limited.uploadImages(List.of(image("small.png", 50, 50), image("wide.png", 200, 100))))
+                .isInstanceOf(ImageTooLargeException.class);
+        // 큰 이미지는 저장하지 않고, 먼저 올라간 작은 이미지는 정리 후보로 남김
+        assertThat(storedFiles()).hasSize(3);
+        assertThat(leasedFiles()).containsAll(storedFiles());
+    }
+
+    @Test
+    void appliesExifOrientationBeforeResizing() throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB), "jpg", jpeg);
+        MockMultipartFile photo = new MockMultipartFile("images", "photo.jpg", "image/jpeg", withOrientation(jpeg.toByteArray(), 6));
+
+        StoredImage stored = pipeline.uploadImages(List.of(photo)).get(0);
+
+        BufferedImage full = ImageIO.read(Path.of(URI.create(stored.getFullUrl())).toFile());
+        assertThat(full.getWidth()).isEqualTo(100);
+        assertThat(full.getHeight()).isEqualTo(200);
+    }
+
+    // SOI 바로 뒤에 Orientation 태그 하나만 있는 APP1(Exif, big endian) 세그먼트를 넣음
+    private byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {'M', 'M', 0, 42, 0, 0, 0, 8, 0, 1, 0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, 0, 0, 0, 0};
+        int length = 2 + 6 + tiff.length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private MockMultipartFile image(String filename, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(width % 256, height % 256, 128));
+        graphics.fillRect(0, 0, width / 2, height / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new MockMultipartFile("images", filename, "image/png", out.toByteArray());
+    }
+
+    // touch만 기록하는 BlobLeaseRepository (다른 메서드는 호출되지 않아야 함)
+    private BlobLeaseRepository leaseRecorder() {
+        return (BlobLeaseRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{BlobLeaseRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("touch")) {
+                        leased.add((StoredImage) args[0]);
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private List<Path> leasedFiles() {
+        return leased.stream()
+                .flatMap(image -> Stream.of(image.urls()))
+                .map(url -> Path.of(URI.create(url)))
+                .toList();
+    }
+
+    private List<Path> storedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(root)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.likelion.innerjoin.post.controller;
+
+import com.likelion.innerjoin.common.storage.BlobStore;
+import com.likelion.innerjoin.common.storage.LocalBlobStore;
+import com.likelion.innerjoin.post.model.entity.Post;
+import com.likelion.innerjoin.post.repository.PostImageRepository;
+import com.likelion.innerjoin.post.repository.PostRepository;
+import com.likelion.innerjoin.user.model.entity.Club;
+import com.likelion.innerjoin.user.model.entity.ClubCategory;
+import com.likelion.innerjoin.user.repository.ClubCategoryRepository;
+import com.likelion.innerjoin.user.repository.ClubRepository;
+import com.likelion.innerjoin.user.util.SessionUser;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import javax.sql.DataSource;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 요청이 커넥션을 잡고 있는지 봐야 하므로 트랜잭션 없이 실행하고 직접 정리합니다.
+// 다른 스레드가 커넥션을 쓰지 않도록 주기 작업은 테스트 동안 다시 실행되지 않게 늘려 둡니다.
+@SpringBootTest(properties = {
+        "blob.store=local",
+        "mail.queue.poll-interval=3600000",
+        "sse.slot.flush-interval=3600000",
+        "sse.slot.heartbeat-interval=3600000"
+})
+@AutoConfigureMockMvc
+class PostUploadConnectionTest {
+    // 업로드하는 동안 사용 중인 커넥션 수
+    private static final List<Integer> activeDuringUpload = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostImageRepository postImageRepository;
+    @Autowired
+    private ClubRepository clubRepository;
+    @Autowired
+    private ClubCategoryRepository clubCategoryRepository;
+
+    private ClubCategory category;
+    private Club club;
+    private MockHttpSession session;
+
+    @TestConfiguration
+    static class ProbeConfig {
+        @Bean
+        @Primary
+        BlobStore probingBlobStore(LocalBlobStore localBlobStore, DataSource dataSource) throws SQLException {
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            return new BlobStore() {
+                @Override
+                public String upload(String key, InputStream content, long length, String contentType) {
+                    activeDuringUpload.add(hikari.getHikariPoolMXBean().getActiveConnections());
+                    return localBlobStore.upload(key, content, length, contentType);
+                }
+
+                @Override
+                public boolean delete(String key) {
+                    return localBlobStore.delete(key);
+                }
+
+                @Override
+                public boolean exists(String key) {
+                    return localBlobStore.exists(key);
+                }
+
+                @Override
+                public String urlOf(String key) {
+                    return localBlobStore.urlOf(key);
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        activeDuringUpload.clear();
+        category = clubCategoryRepository.save(ClubCategory.builder().categoryName("category").build());
+        club = clubRepository.save(Club.builder()
+                .name("club")
+                .loginId(UUID.randomUUID().toString())
+                .category(category)
+                .build());
+        session = new MockHttpSession();
+        session.setAttribute("userId", club.getId());
+        session.setAttribute("role", SessionUser.CLUB);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        List<Post> posts = postRepository.findAll().stream()
+                .filter(post -> post.getClub().getId().equals(club.getId()))
+                .toList();
+        for (Post post : posts) {
+            postImageRepository.deleteAllInBatch(postImageRepository.findByPostId(post.getId()));
+        }
+        postRepository.deleteAllInBatch(posts);
+        clubRepository.deleteAllInBatch(List.of(club));
+        clubCategoryRepository.deleteAllInBatch(List.of(category));
+    }
+
+    @Test
+    void createAndUpdatePostHoldNoConnectionWhileUploading() throws Exception {
+        mockMvc.perform(multipart("/posts")
+                        .file(json("{\"title\":\"title\",\"startTime\":\"2024-09-01T00:00:00\",\"endTime\":\"2024-09-30T00:00:00\","
+                                + "\"content\":\"content\",\"recruitmentStatus\":\"OPEN\",\"recruitmentCount\":3,\"recruitmentType\":\"FORM_ONLY\"}"))
+                        .file(image(100, 100))
+                        .session(session))
+                .andExpect(status().isOk());
+        Long postId = postRepository.findAll().stream()
+                .filter(post -> post.getClub().getId().equals(club.getId()))
+                .findFirst().orElseThrow().getId();
+
+        mockMvc.perform(multipart(HttpMethod.PUT, "/posts/" + postId)
+                        .file(json("{\"title\":\"title2\",\"content\":\"content\",\"startTime\":\"2024-09-01T00:00:00\","
+                                + "\"endTime\":\"2024-09-30T00:00:00\",\"recruitmentStatus\":\"OPEN\",\"recruitmentCount\":3,\"keepImageIds\":[]}"))
+                        .file(image(120, 80))
+                        .session(session))
+                .andExpect(status().isOk());
+
+        assertThat(activeDuringUpload).isNotEmpty().containsOnly(0);
+    }
+
+    private MockMultipartFile json(String body) {
+        return new MockMultipartFile("post", "", MediaType.APPLICATION_JSON_VALUE, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 이미지 하나만 올려서 다른 업로드 스레드의 lease 갱신이 끼어들지 않게 함
+    private MockMultipartFile image(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new MockMultipartFile("images", "image.png", "image/png", out.toByteArray());
+    }
+}
@@ -0,0 +1,220 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.exception.AllowedNumExceededException;
+import com.likelion.innerjoin.post.model.dto.request.MeetingTimeSelectionDto;
+import com.likelion.innerjoin.post.model.entity.*;
+import com.likelion.innerjoin.post.repository.ApplicationRepository;
+import com.likelion.innerjoin.post.repository.MeetingTimeRepository;
+import com.likelion.innerjoin.post.repository.PostRepository;
+import com.likelion.innerjoin.post.repository.RecruitingRepository;
+import com.likelion.innerjoin.user.model.entity.Applicant;
+import com.likelion.innerjoin.user.model.entity.Club;
+import com.likelion.innerjoin.user.model.entity.ClubCategory;
+import com.likelion.innerjoin.user.repository.ApplicantRepository;
+import com.likelion.innerjoin.user.repository.ClubCategoryRepository;
+import com.likelion.innerjoin.user.repository.ClubRepository;
+import com.likelion.innerjoin.user.util.SessionUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 스레드가 커밋된 데이터를 봐야 하므로 트랜잭션 없이 실행하고 직접 정리합니다.
+@SpringBootTest
+class ApplicationServiceTest {
+    private static final int ALLOWED_NUM = 3;
+    private static final int APPLICANT_COUNT = 200;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private ApplicationService applicationService;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private MeetingTimeRepository meetingTimeRepository;
+    @Autowired
+    private RecruitingRepository recruitingRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private ApplicantRepository applicantRepository;
+    @Autowired
+    private ClubRepository clubRepository;
+    @Autowired
+    private ClubCategoryRepository clubCategoryRepository;
+
+    private final List<Application> applications = new ArrayList<>();
+    private final List<MeetingTime> meetingTimes = new ArrayList<>();
+    private final List<Applicant> applicants = new ArrayList<>();
+    private ClubCategory category;
+    private Club club;
+    private Post post;
+    private Recruiting recruiting;
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch(applications);
+        meetingTimeRepository.deleteAllInBatch(meetingTimes);
+        recruitingRepository.deleteAllInBatch(List.of(recruiting));
+        postRepository.deleteAllInBatch(List.of(post));
+        applicantRepository.deleteAllInBatch(applicants);
+        clubRepository.deleteAllInBatch(List.of(club));
+        clubCategoryRepository.deleteAllInBatch(List.of(category));
+    }
+
+    @Test
+    void selectMeetingTimeNeverOverbooksUnderConcurrentRequests() throws Exception {
+        createRecruiting();
+        MeetingTime meetingTime = createMeetingTime(ALLOWED_NUM);
+        createApplications(APPLICANT_COUNT);
+
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(applications, application -> {
+            try {
+                applicationService.selectMeetingTime(
+                        new MeetingTimeSelectionDto(application.getId(), meetingTime.getId()),
+                        session(application.getApplicant()));
+                booked.incrementAndGet();
+            } catch (AllowedNumExceededException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertThat(booked.get()).isEqualTo(ALLOWED_NUM);
+        assertThat(rejected.get()).isEqualTo(APPLICANT_COUNT - ALLOWED_NUM);
+        assertThat(meetingTimeRepository.findBookedCountById(meetingTime.getId())).isEqualTo(ALLOWED_NUM);
+        assertThat(countBooked(meetingTime)).isEqualTo(ALLOWED_NUM);
+    }
+
+    @Test
+    void changingMeetingTimeReleasesPreviousSlot() throws Exception {
+        createRecruiting();
+        List<MeetingTime> slots = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            slots.add(createMeetingTime(ALLOWED_NUM));
+        }
+        createApplications(APPLICANT_COUNT);
+
+        // 지원자마다 여러 번 자리를 옮겨도 슬롯별 예약 인원 수와 실제 예약 내역이 어긋나지 않아야 한다
+        runConcurrently(applications, application -> {
+            for (int i = 0; i < slots.size(); i++) {
+                MeetingTime slot = slots.get((int) ((application.getId() + i) % slots.size()));
+                try {
+                    applicationService.selectMeetingTime(
+                            new MeetingTimeSelectionDto(application.getId(), slot.getId()),
+                            session(application.getApplicant()));
+                } catch (AllowedNumExceededException ignored) {
+                }
+            }
+        });
+
+        for (MeetingTime slot : slots) {
+            int bookedCount = meetingTimeRepository.findBookedCountById(slot.getId());
+            assertThat(bookedCount).isLessThanOrEqualTo(ALLOWED_NUM);
+            assertThat(bookedCount).isEqualTo(countBooked(slot));
+        }
+    }
+
+    private interface Task {
+        void run(Application application) throws Exception;
+    }
+
+    private void runConcurrently(List<Application> targets, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Application application : targets) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(application);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long countBooked(MeetingTime meetingTime) {
+        return applicationRepository.findAllById(applications.stream().map(Application::getId).toList()).stream()
+                .filter(application -> application.getMeetingTime() != null
+                        && application.getMeetingTime().getId().equals(meetingTime.getId()))
+                .count();
+    }
+
+    private MockHttpSession session(Applicant applicant) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", applicant.getId());
+        session.setAttribute("role", SessionUser.APPLICANT);
+        return session;
+    }
+
+    private void createRecruiting() {
+        category = clubCategoryRepository.save(ClubCategory.builder().categoryName("category").build());
+        club = clubRepository.save(Club.builder()
+                .name("club")
+                .loginId(UUID.randomUUID().toString())
+                .category(category)
+                .build());
+        post = postRepository.save(Post.builder()
+                .club(club)
+                .title("title")
+                .startTime(LocalDateTime.now())
+                .endTime(LocalDateTime.now().plusDays(7))
+                .recruitmentStatus(RecruitmentStatus.TIME_SET)
+                .recruitmentType(RecruitmentType.MEETING_ONLY)
+                .build());
+        recruiting = recruitingRepository.save(Recruiting.builder()
+                .post(post)
+                .jobTitle("job")
+                .build());
+    }
+
+    private MeetingTime createMeetingTime(int allowedNum) {
+        LocalDateTime start = LocalDateTime.now().plusDays(10 + meetingTimes.size());
+        MeetingTime meetingTime = meetingTimeRepository.save(MeetingTime.builder()
+                .recruiting(recruiting)
+                .allowedNum(allowedNum)
+                .meetingStartTime(start)
+                .meetingEndTime(start.plusMinutes(30))
+                .build());
+        meetingTimes.add(meetingTime);
+        return meetingTime;
+    }
+
+    private void createApplications(int count) {
+        for (int i = 0; i < count; i++) {
+            Applicant applicant = applicantRepository.save(Applicant.builder()
+                    .email(UUID.randomUUID() + "@test.com")
+                    .name("applicant" + i)
+                    .build());
+            applicants.add(applicant);
+            applications.add(applicationRepository.save(Application.builder()
+                    .applicant(applicant)
+                    .recruiting(recruiting)
+                    .formResult(ResultType.PASS)
+                    .meetingResult(ResultType.PENDING)
+                    .build()));
+        }
+    }
+}
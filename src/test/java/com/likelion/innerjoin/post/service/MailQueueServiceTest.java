@@ -0,0 +1,122 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.model.dto.response.MailJobResponseDto;
+import com.likelion.innerjoin.post.model.entity.MailDelivery;
+import com.likelion.innerjoin.post.model.entity.MailDeliveryStatus;
+import com.likelion.innerjoin.post.model.entity.MailJobStatus;
+import com.likelion.innerjoin.post.repository.MailDeliveryRepository;
+import com.likelion.innerjoin.post.repository.MailJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+// 실제 SMTP 서버 대신 JavaMailSender를 가짜 수신함으로 바꿔서 큐 → 워커 → 상태 갱신 흐름을 확인합니다.
+@SpringBootTest(properties = "mail.queue.poll-interval=100")
+class MailQueueServiceTest {
+    private static final long CLUB_ID = -1L;
+
+    @MockBean
+    private JavaMailSender mailSender;
+    @Autowired
+    private MailQueueService mailQueueService;
+    @Autowired
+    private MailJobRepository mailJobRepository;
+    @Autowired
+    private MailDeliveryRepository mailDeliveryRepository;
+
+    private final List<SimpleMailMessage> inbox = new CopyOnWriteArrayList<>();
+    private final List<Long> jobIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        mailDeliveryRepository.deleteAllInBatch(mailDeliveryRepository.findAll().stream()
+                .filter(delivery -> jobIds.contains(delivery.getJob().getId()))
+                .toList());
+        mailJobRepository.deleteAllByIdInBatch(jobIds);
+    }
+
+    @Test
+    void sendsOneMessagePerRecipient() throws Exception {
+        acceptAll();
+
+        Long jobId = enqueue("a@test.com", "b@test.com", "c@test.com", "a@test.com");
+        MailJobResponseDto status = awaitStatus(jobId, MailJobStatus.COMPLETED);
+
+        assertThat(status.getTotal()).isEqualTo(3);
+        assertThat(status.getSent()).isEqualTo(3);
+        assertThat(inbox).hasSize(3);
+        assertThat(inbox).allSatisfy(message -> assertThat(message.getTo()).hasSize(1));
+        assertThat(inbox).extracting(message -> message.getTo()[0])
+                .containsExactlyInAnyOrder("a@test.com", "b@test.com", "c@test.com");
+    }
+
+    @Test
+    void retriesOnlyFailedRecipientsWithBackoff() throws Exception {
+        doAnswer(invocation -> {
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            for (SimpleMailMessage message : (SimpleMailMessage[]) invocation.getRawArguments()[0]) {
+                if ("bad@test.com".equals(message.getTo()[0])) {
+                    failed.put(message, new IllegalStateException("mailbox unavailable"));
+                } else {
+                    inbox.add(message);
+                }
+            }
+            if (!failed.isEmpty()) {
+                throw new MailSendException(failed);
+            }
+            return null;
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        Long jobId = enqueue("a@test.com", "bad@test.com", "c@test.com");
+        MailJobResponseDto status = awaitStatus(jobId, MailJobStatus.IN_PROGRESS);
+
+        assertThat(status.getSent()).isEqualTo(2);
+        assertThat(status.getPending()).isEqualTo(1);
+
+        MailDelivery failed = mailDeliveryRepository.findAll().stream()
+                .filter(delivery -> "bad@test.com".equals(delivery.getRecipient()))
+                .filter(delivery -> jobId.equals(delivery.getJob().getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(MailDeliveryStatus.PENDING);
+        assertThat(failed.getAttemptCount()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(failed.getLastError()).contains("mailbox unavailable");
+    }
+
+    private void acceptAll() {
+        doAnswer(invocation -> {
+            inbox.addAll(Arrays.asList((SimpleMailMessage[]) invocation.getRawArguments()[0]));
+            return null;
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+    }
+
+    private Long enqueue(String... recipients) {
+        Long jobId = mailQueueService.enqueue(CLUB_ID, null, "title", "content", Arrays.asList(recipients));
+        jobIds.add(jobId);
+        return jobId;
+    }
+
+    private MailJobResponseDto awaitStatus(Long jobId, MailJobStatus expected) throws InterruptedException {
+        MailJobResponseDto status = mailQueueService.getStatus(jobId, CLUB_ID);
+        for (int i = 0; i < 100 && status.getStatus() != expected; i++) {
+            Thread.sleep(100);
+            status = mailQueueService.getStatus(jobId, CLUB_ID);
+        }
+        assertThat(status.getStatus()).isEqualTo(expected);
+        return status;
+    }
+}
@@ -0,0 +1,70 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.util.DeadlineCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenPostIndexTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 9, 1, 12, 0);
+
+    private final OpenPostIndex index = new OpenPostIndex(null);
+
+    @Test
+    void ordersBySoonestDeadline() {
+        index.put(1L, NOW.plusDays(3), NOW);
+        index.put(2L, NOW.plusHours(1), NOW);
+        index.put(3L, NOW.plusHours(1), NOW);
+        index.put(4L, NOW.minusHours(1), NOW); // 이미 마감
+
+        assertThat(postIds(index.findOpen(NOW, null, null, 10))).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void skipsPostsClosedSinceTheyWereIndexed() {
+        index.put(1L, NOW.plusMinutes(10), NOW);
+        index.put(2L, NOW.plusMinutes(30), NOW);
+
+        assertThat(postIds(index.findOpen(NOW.plusMinutes(20), null, null, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void pagesAfterCursor() {
+        index.put(1L, NOW.plusHours(1), NOW);
+        index.put(2L, NOW.plusHours(1), NOW);
+        index.put(3L, NOW.plusHours(2), NOW);
+
+        List<OpenPostIndex.Entry> first = index.findOpen(NOW, null, null, 2);
+        DeadlineCursor cursor = first.get(1).toCursor();
+
+        assertThat(postIds(first)).containsExactly(1L, 2L);
+        assertThat(postIds(index.findOpen(NOW, null, cursor, 2))).containsExactly(3L);
+    }
+
+    @Test
+    void limitsToDeadlinesBeforeUntil() {
+        index.put(1L, NOW.plusHours(11), NOW);
+        index.put(2L, NOW.plusHours(12), NOW); // 다음 날 0시 마감
+
+        assertThat(postIds(index.findOpen(NOW, NOW.plusHours(12), null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void movesPostWhenDeadlineChanges() {
+        index.put(1L, NOW.plusHours(1), NOW);
+        index.put(2L, NOW.plusHours(2), NOW);
+
+        index.put(1L, NOW.plusHours(3), NOW);
+        index.put(2L, null, NOW); // 삭제
+
+        assertThat(postIds(index.findOpen(NOW, null, null, 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private List<Long> postIds(List<OpenPostIndex.Entry> entries) {
+        return entries.stream().map(OpenPostIndex.Entry::getPostId).toList();
+    }
+}
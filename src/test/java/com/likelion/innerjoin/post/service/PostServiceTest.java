@@ -0,0 +1,92 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.model.entity.Post;
+import com.likelion.innerjoin.post.model.entity.PostImage;
+import com.likelion.innerjoin.post.model.entity.RecruitmentStatus;
+import com.likelion.innerjoin.post.model.entity.RecruitmentType;
+import com.likelion.innerjoin.post.repository.PostImageRepository;
+import com.likelion.innerjoin.post.repository.PostRepository;
+import com.likelion.innerjoin.user.model.entity.Club;
+import com.likelion.innerjoin.user.model.entity.ClubCategory;
+import com.likelion.innerjoin.user.repository.ClubCategoryRepository;
+import com.likelion.innerjoin.user.repository.ClubRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostServiceTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostImageRepository postImageRepository;
+    @Autowired
+    private ClubRepository clubRepository;
+    @Autowired
+    private ClubCategoryRepository clubCategoryRepository;
+    @Autowired
+    private PostFeedCache postFeedCache;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void getAllPostsStatementCountDoesNotGrowWithPosts() {
+        createPosts(3);
+        long fewPosts = countStatements();
+
+        createPosts(30);
+        long manyPosts = countStatements();
+
+        assertThat(manyPosts).isEqualTo(fewPosts);
+    }
+
+    private long countStatements() {
+        entityManager.flush();
+        entityManager.clear();
+        postFeedCache.invalidateAll();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        postService.getAllPosts(null, null, null, null, null, null, 100);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createPosts(int count) {
+        for (int i = 0; i < count; i++) {
+            ClubCategory category = clubCategoryRepository.save(
+                    ClubCategory.builder().categoryName("category" + i).build());
+            Club club = clubRepository.save(Club.builder()
+                    .name("club" + i)
+                    .loginId(UUID.randomUUID().toString())
+                    .category(category)
+                    .build());
+            Post post = postRepository.save(Post.builder()
+                    .club(club)
+                    .title("title" + i)
+                    .content("content" + i)
+                    .startTime(LocalDateTime.now())
+                    .endTime(LocalDateTime.now().plusDays(7))
+                    .recruitmentStatus(RecruitmentStatus.OPEN)
+                    .recruitmentType(RecruitmentType.FORM_ONLY)
+                    .build());
+            postImageRepository.save(PostImage.builder().post(post).imageUrl("https://img/" + i + "_a.png").build());
+            postImageRepository.save(PostImage.builder().post(post).imageUrl("https://img/" + i + "_b.png").build());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.likelion.innerjoin.post.service;
+
+import com.likelion.innerjoin.post.model.entity.DecisionStage;
+import com.likelion.innerjoin.post.model.entity.ResultType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecruitingStatDeltaTest {
+
+    @Test
+    void countsNewApplication() {
+        RecruitingStatDelta delta = new RecruitingStatDelta()
+                .add(1L, null, new RecruitingStatDelta.Snapshot(ResultType.PENDING, null, ResultType.PASS, null));
+
+        assertThat(delta.getDeltas().get(1L)).containsOnly(
+                Map.entry(RecruitingStatDelta.APPLICANTS, 1L),
+                Map.entry(RecruitingStatDelta.resultMetric(DecisionStage.FORM, ResultType.PENDING), 1L),
+                Map.entry(RecruitingStatDelta.resultMetric(DecisionStage.MEETING, ResultType.PASS), 1L));
+    }
+
+    @Test
+    void keepsOnlyChangedMetrics() {
+        RecruitingStatDelta.Snapshot before = new RecruitingStatDelta.Snapshot(ResultType.PENDING, 15, ResultType.PENDING, null);
+        RecruitingStatDelta.Snapshot after = new RecruitingStatDelta.Snapshot(ResultType.PASS, 27, ResultType.PENDING, null);
+
+        Map<String, Long> changes = new RecruitingStatDelta().add(1L, before, after).getDeltas().get(1L);
+
+        String bucket = RecruitingStatDelta.scoreBucketPrefix(DecisionStage.FORM);
+        assertThat(changes).containsOnly(
+                Map.entry(RecruitingStatDelta.resultMetric(DecisionStage.FORM, ResultType.PENDING), -1L),
+                Map.entry(RecruitingStatDelta.resultMetric(DecisionStage.FORM, ResultType.PASS), 1L),
+                Map.entry(RecruitingStatDelta.scoreSumMetric(DecisionStage.FORM), 12L),
+                Map.entry(bucket + 10, -1L),
+                Map.entry(bucket + 20, 1L));
+    }
+
+    @Test
+    void dropsRecruitingWithoutChanges() {
+        RecruitingStatDelta.Snapshot snapshot = new RecruitingStatDelta.Snapshot(ResultType.PASS, 80, ResultType.FAIL, 40);
+
+        RecruitingStatDelta delta = new RecruitingStatDelta().add(1L, snapshot, snapshot);
+
+        assertThat(delta.isEmpty()).isTrue();
+    }
+
+    @Test
+    void roundsNegativeScoresDown() {
+        assertThat(RecruitingStatDelta.bucketOf(-1)).isEqualTo(-10);
+        assertThat(RecruitingStatDelta.bucketOf(0)).isEqualTo(0);
+        assertThat(RecruitingStatDelta.bucketOf(99)).isEqualTo(90);
+    }
+}
@@ -0,0 +1,143 @@
+package com.likelion.innerjoin.post.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterviewSchedulerTest {
+
+    @Test
+    void spreadsApplicantsEvenlyWhenEverySlotIsAcceptable() {
+        int[][] preferences = new int[50][];
+        for (int i = 0; i < preferences.length; i++) {
+            preferences[i] = new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        }
+        int[] capacities = new int[10];
+        Arrays.fill(capacities, 10);
+
+        int[] loads = loads(InterviewScheduler.solve(preferences, capacities), capacities.length);
+
+        assertThat(loads).containsOnly(5);
+    }
+
+    @Test
+    void movesEarlierApplicantsToFitEveryone() {
+        // 0번은 두 시간 모두 가능, 1번은 0번 시간만 가능 -> 0번을 1번 시간으로 밀어야 둘 다 배정됨
+        int[][] preferences = {{0, 1}, {0}};
+        int[] capacities = {1, 1};
+
+        int[] result = InterviewScheduler.solve(preferences, capacities);
+
+        assertThat(result).containsExactly(1, 0);
+    }
+
+    @Test
+    void leavesApplicantsUnassignedWhenPreferredSlotsAreFull() {
+        int[][] preferences = {{0}, {0}, {0}, {1}};
+        int[] capacities = {2, 0};
+
+        int[] result = InterviewScheduler.solve(preferences, capacities);
+
+        assertThat(Arrays.stream(result).filter(slot -> slot == 0).count()).isEqualTo(2);
+        assertThat(result[3]).isEqualTo(InterviewScheduler.UNASSIGNED);
+    }
+
+    @Test
+    void matchesAsManyApplicantsAsMaximumFlow() {
+        Random random = new Random(1);
+        for (int round = 0; round < 500; round++) {
+            int applicantCount = 1 + random.nextInt(30);
+            int slotCount = 1 + random.nextInt(8);
+            int[] capacities = new int[slotCount];
+            for (int slot = 0; slot < slotCount; slot++) {
+                capacities[slot] = random.nextInt(5);
+            }
+            int[][] preferences = new int[applicantCount][];
+            for (int applicant = 0; applicant < applicantCount; applicant++) {
+                preferences[applicant] = random.ints(0, slotCount).distinct().limit(random.nextInt(slotCount + 1)).toArray();
+            }
+
+            int[] result = InterviewScheduler.solve(preferences, capacities);
+
+            int[] loads = loads(result, slotCount);
+            for (int slot = 0; slot < slotCount; slot++) {
+                assertThat(loads[slot]).isLessThanOrEqualTo(capacities[slot]);
+            }
+            for (int applicant = 0; applicant < applicantCount; applicant++) {
+                if (result[applicant] != InterviewScheduler.UNASSIGNED) {
+                    assertThat(preferences[applicant]).contains(result[applicant]);
+                }
+            }
+            assertThat(Arrays.stream(result).filter(slot -> slot != InterviewScheduler.UNASSIGNED).count())
+                    .isEqualTo(maxMatching(preferences, capacities));
+        }
+    }
+
+    @Test
+    void followsVeryLongAugmentingPathWithoutStackOverflow() {
+        // i번은 i, i + 1번 시간이 가능해서 먼저 i번 시간에 배정됨
+        // 마지막 지원자는 0번 시간만 가능 -> 나머지 지원자가 모두 한 칸씩 밀려야 배정됨
+        int n = 100_000;
+        int[][] preferences = new int[n + 1][];
+        for (int i = 0; i < n; i++) {
+            preferences[i] = new int[]{i, i + 1};
+        }
+        preferences[n] = new int[]{0};
+        int[] capacities = new int[n + 1];
+        Arrays.fill(capacities, 1);
+
+        int[] result = InterviewScheduler.solve(preferences, capacities);
+
+        assertThat(result[n]).isEqualTo(0);
+        for (int i = 0; i < n; i++) {
+            assertThat(result[i]).isEqualTo(i + 1);
+        }
+    }
+
+    private int[] loads(int[] result, int slotCount) {
+        int[] loads = new int[slotCount];
+        for (int slot : result) {
+            if (slot != InterviewScheduler.UNASSIGNED) {
+                loads[slot]++;
+            }
+        }
+        return loads;
+    }
+
+    // 면접 시간을 허용 인원만큼 자리로 나눈 뒤 단순 augmenting path로 구한 최대 매칭 수
+    private long maxMatching(int[][] preferences, int[] capacities) {
+        int[] seatOffset = new int[capacities.length + 1];
+        for (int slot = 0; slot < capacities.length; slot++) {
+            seatOffset[slot + 1] = seatOffset[slot] + capacities[slot];
+        }
+        int[] seatOwner = new int[seatOffset[capacities.length]];
+        Arrays.fill(seatOwner, -1);
+
+        long matched = 0;
+        for (int applicant = 0; applicant < preferences.length; applicant++) {
+            if (augment(applicant, preferences, seatOffset, seatOwner, new boolean[seatOwner.length])) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private boolean augment(int applicant, int[][] preferences, int[] seatOffset, int[] seatOwner, boolean[] visited) {
+        for (int slot : preferences[applicant]) {
+            for (int seat = seatOffset[slot]; seat < seatOffset[slot + 1]; seat++) {
+                if (visited[seat]) {
+                    continue;
+                }
+                visited[seat] = true;
+                if (seatOwner[seat] == -1 || augment(seatOwner[seat], preferences, seatOffset, seatOwner, visited)) {
+                    seatOwner[seat] = applicant;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}